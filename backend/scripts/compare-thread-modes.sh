@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+#
+# Compares throughput and latency of the platform-thread and virtual-thread
+# request execution modes against the same database.
+#
+# Requires a Java 21+ JDK on the PATH and a reachable database configured in
+# application.properties (or via SPRING_DATASOURCE_* environment variables).
+#
+# Usage: scripts/compare-thread-modes.sh [concurrency] [duration-seconds]
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+CONCURRENCY="${1:-200}"
+DURATION="${2:-30}"
+WARMUP="${WARMUP:-10}"
+PORT="${PORT:-8080}"
+ENDPOINTS="${ENDPOINTS:-GET /api/books,GET /api/books/count,GET /api/books/recent,GET /api/collections}"
+OUT_DIR=target/load
+
+java_major=$(java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.specification.version/ {print $2}')
+if [ "${java_major%%.*}" -lt 21 ]; then
+    echo "Java 21+ is required for the virtual-thread mode (found ${java_major})" >&2
+    exit 1
+fi
+
+mvn -B -q -Pvirtual-threads -DskipTests package test-compile
+JAR=$(ls target/shelfio-*-exec.jar | head -n 1)
+mkdir -p "$OUT_DIR"
+
+run_mode() {
+    local label="$1" profiles="$2"
+    java -Djdk.tracePinnedThreads=short -jar "$JAR" \
+        --server.port="$PORT" --spring.profiles.active="$profiles" \
+        > "$OUT_DIR/$label.log" 2>&1 &
+    local pid=$!
+
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "Application failed to start, see $OUT_DIR/$label.log" >&2
+            exit 1
+        fi
+        sleep 1
+    done
+
+    java -cp target/test-classes com.shelfio.shelfio.load.LoadDriver \
+        --base-url "http://localhost:$PORT" --label "$label" \
+        --concurrency "$CONCURRENCY" --warmup "$WARMUP" --duration "$DURATION" \
+        --endpoints "$ENDPOINTS" --out "$OUT_DIR/$label.json"
+
+    kill "$pid"
+    wait "$pid" || true
+}
+
+run_mode platform-threads default
+run_mode virtual-threads virtual-threads
+
+echo
+echo "Reports written to $OUT_DIR/platform-threads.json and $OUT_DIR/virtual-threads.json"
@@ -0,0 +1,83 @@
+#!/usr/bin/env bash
+#
+# Measures time-to-first-request: from JVM launch until the first successful
+# response to FIRST_REQUEST, for the default run mode and the startup-optimized
+# one without and with the AppCDS archive.
+#
+# Requires a reachable database configured in application.properties (or via
+# SPRING_DATASOURCE_* environment variables) whose schema already exists, as
+# the startup profile does not create it.
+#
+# Usage: scripts/startup-benchmark.sh [runs-per-mode]
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+PORT="${PORT:-8080}"
+FIRST_REQUEST="${FIRST_REQUEST:-/api/books/count}"
+OUT_DIR=target/startup
+
+mvn -B -q -Pcds -DskipTests package
+EXEC_JAR=$(ls target/shelfio-*-exec.jar | head -n 1)
+CDS_JAR=$(basename "$(ls target/cds/shelfio-*-cds.jar | head -n 1)")
+mkdir -p "$OUT_DIR"
+
+# The archive only matches the class path it was recorded with, relative to target/cds
+in_cds_dir() {
+    cd target/cds && exec "$@"
+}
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# Prints the time-to-first-request of one launch in milliseconds
+measure() {
+    local log="$1"
+    shift
+    local start pid
+    start=$(now_ms)
+    "$@" --server.port="$PORT" > "$log" 2>&1 &
+    pid=$!
+
+    until curl -sf -o /dev/null "http://localhost:$PORT$FIRST_REQUEST"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "Application failed to start, see $log" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    echo $(( $(now_ms) - start ))
+
+    kill "$pid"
+    wait "$pid" || true
+}
+
+json="{\"firstRequest\":\"$FIRST_REQUEST\",\"runs\":$RUNS,\"modes\":["
+printf '%-14s %8s %8s %8s\n' "mode" "min ms" "p50 ms" "max ms"
+
+run_mode() {
+    local label="$1"
+    shift
+    local samples=() sample
+    for i in $(seq "$RUNS"); do
+        sample=$(measure "$OUT_DIR/$label-$i.log" "$@")
+        samples+=("$sample")
+    done
+    local sorted
+    sorted=($(printf '%s\n' "${samples[@]}" | sort -n))
+    local min="${sorted[0]}" p50="${sorted[$(( (RUNS - 1) / 2 ))]}" max="${sorted[$(( RUNS - 1 ))]}"
+    printf '%-14s %8d %8d %8d\n' "$label" "$min" "$p50" "$max"
+    json+="{\"mode\":\"$label\",\"minMs\":$min,\"p50Ms\":$p50,\"maxMs\":$max,\"samplesMs\":[$(IFS=,; echo "${samples[*]}")]},"
+}
+
+run_mode default java -jar "$EXEC_JAR"
+run_mode startup in_cds_dir java -jar "$CDS_JAR" --spring.profiles.active=startup
+run_mode startup-cds in_cds_dir java -XX:SharedArchiveFile=application.jsa -jar "$CDS_JAR" \
+    --spring.profiles.active=startup
+
+echo "${json%,}]}" > "$OUT_DIR/startup.json"
+echo
+echo "Report written to $OUT_DIR/startup.json"
@@ -0,0 +1,55 @@
+package com.shelfio.shelfio.adapter;
+
+import com.shelfio.shelfio.dto.ExternalBookDto;
+import com.shelfio.shelfio.exception.ExternalServiceException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Non-blocking provider lookups, so fan-outs do not hold a thread per
+ * in-flight request.
+ *
+ * <p>The returned future completes exceptionally once {@code deadline} has
+ * passed. Cancelling it, or the deadline passing, aborts the underlying
+ * request. Failures are reported with the same exception types the blocking
+ * variant throws.
+ *
+ * <p>The primary bean is the metered, rate limited and circuit broken chain
+ * that also serves blocking lookups.
+ */
+public interface AsyncBookDataAdapter extends BookDataAdapter {
+
+    CompletableFuture<Optional<ExternalBookDto>> fetchBookByIsbnAsync(String isbn, Duration deadline);
+
+    Duration getDefaultDeadline();
+
+    /**
+     * Blocking bridge for existing callers: waits for the asynchronous lookup
+     * under the default deadline.
+     */
+    @Override
+    default Optional<ExternalBookDto> fetchBookByIsbn(String isbn) {
+        return await(fetchBookByIsbnAsync(isbn, getDefaultDeadline()));
+    }
+
+    static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException("Interrupted while waiting for the book provider", ex);
+        } catch (CancellationException ex) {
+            throw new ExternalServiceException("Book provider lookup was cancelled", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ExternalServiceException("Book provider lookup failed", ex.getCause());
+        }
+    }
+}
@@ -7,4 +7,6 @@ import java.util.Optional;
 public interface BookDataAdapter {
 
     Optional<ExternalBookDto> fetchBookByIsbn(String isbn);
+
+    String getProviderName();
 }
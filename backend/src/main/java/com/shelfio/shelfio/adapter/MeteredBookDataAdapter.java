@@ -0,0 +1,80 @@
+package com.shelfio.shelfio.adapter;
+
+import com.shelfio.shelfio.dto.ExternalBookDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Records latency and outcome of every provider lookup, tagged by provider and result.
+ */
+public class MeteredBookDataAdapter implements AsyncBookDataAdapter {
+
+    static final String METRIC_NAME = "shelfio.book.provider.requests";
+
+    private final AsyncBookDataAdapter delegate;
+    private final MeterRegistry meterRegistry;
+
+    public MeteredBookDataAdapter(AsyncBookDataAdapter delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Optional<ExternalBookDto> fetchBookByIsbn(String isbn) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "error";
+        String exception = "none";
+        try {
+            Optional<ExternalBookDto> book = delegate.fetchBookByIsbn(isbn);
+            result = book.isPresent() ? "found" : "not_found";
+            return book;
+        } catch (RuntimeException ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            record(sample, result, exception);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Optional<ExternalBookDto>> fetchBookByIsbnAsync(String isbn, Duration deadline) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<Optional<ExternalBookDto>> lookup = delegate.fetchBookByIsbnAsync(isbn, deadline);
+        // Returns the delegate's future itself, so cancelling it still aborts the request
+        lookup.whenComplete((book, error) -> {
+            if (error == null) {
+                record(sample, book.isPresent() ? "found" : "not_found", "none");
+            } else {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                record(sample, "error", cause.getClass().getSimpleName());
+            }
+        });
+        return lookup;
+    }
+
+    @Override
+    public Duration getDefaultDeadline() {
+        return delegate.getDefaultDeadline();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    private void record(Timer.Sample sample, String result, String exception) {
+        sample.stop(Timer.builder(METRIC_NAME)
+                .description("Lookups against external book data providers")
+                .tag("provider", delegate.getProviderName())
+                .tag("result", result)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
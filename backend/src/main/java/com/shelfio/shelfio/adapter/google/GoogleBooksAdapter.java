@@ -1,23 +1,60 @@
 package com.shelfio.shelfio.adapter.google;
 
-import com.shelfio.shelfio.adapter.BookDataAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shelfio.shelfio.adapter.AsyncBookDataAdapter;
 import com.shelfio.shelfio.dto.ExternalBookDto;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Google Books volumes API on the JDK's non-blocking HTTP client. Responses
+ * are decoded on the client's executor, so a handful of threads serve any
+ * number of in-flight lookups.
+ *
+ * <p>Callers get this adapter wrapped in metering and the resilience layer,
+ * see {@code BookDataAdapterConfig}.
+ */
 @Component
-@RequiredArgsConstructor
 @SuppressWarnings("unchecked")
-public class GoogleBooksAdapter implements BookDataAdapter {
-    private static final String GOOGLE_BOOKS_API =
-            "https://www.googleapis.com/books/v1/volumes?q=isbn:";
-
-    private final RestTemplate restTemplate = new RestTemplate();
+public class GoogleBooksAdapter implements AsyncBookDataAdapter {
+    private static final String PROVIDER_NAME = "google-books";
+    private static final String VOLUMES_BY_ISBN = "/volumes?q=isbn:";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Duration defaultDeadline;
+
+    public GoogleBooksAdapter(HttpClient httpClient,
+                              ObjectMapper objectMapper,
+                              @Value("${shelfio.google-books.base-url:https://www.googleapis.com/books/v1}") String baseUrl,
+                              @Value("${shelfio.book-provider.timeouts.read:3s}") Duration defaultDeadline) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.defaultDeadline = defaultDeadline;
+    }
 
     private List<String> extractCategories(Map<String, Object> volumeInfo) {
 
@@ -35,10 +72,83 @@ public class GoogleBooksAdapter implements BookDataAdapter {
 
 
     @Override
-    public Optional<ExternalBookDto> fetchBookByIsbn(String isbn) {
+    public String getProviderName() {
+        return PROVIDER_NAME;
+    }
+
+    @Override
+    public Duration getDefaultDeadline() {
+        return defaultDeadline;
+    }
+
+    @Override
+    public CompletableFuture<Optional<ExternalBookDto>> fetchBookByIsbnAsync(String isbn, Duration deadline) {
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + VOLUMES_BY_ISBN + isbn))
+                .header(HttpHeaders.ACCEPT, "application/json")
+                .GET()
+                .build();
+        CompletableFuture<HttpResponse<byte[]>> exchange =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        CompletableFuture<Optional<ExternalBookDto>> result = new CompletableFuture<>();
+        exchange.whenComplete((response, error) -> {
+            if (error != null) {
+                result.completeExceptionally(translate(error));
+                return;
+            }
+            try {
+                result.complete(toExternalBook(isbn, decode(response)));
+            } catch (RuntimeException ex) {
+                result.completeExceptionally(ex);
+            }
+        });
+
+        // The timeout is dropped as soon as the lookup completes
+        CompletableFuture<Optional<ExternalBookDto>> lookup = result
+                .orTimeout(deadline.toNanos(), TimeUnit.NANOSECONDS)
+                .exceptionallyCompose(error -> CompletableFuture.failedFuture(error instanceof TimeoutException
+                        ? new ResourceAccessException(PROVIDER_NAME + " lookup for ISBN " + isbn
+                                + " exceeded its " + deadline.toMillis() + " ms deadline")
+                        : error));
+        // Once the caller cancels or the deadline passes there is no one left to read the response
+        lookup.whenComplete((book, error) -> exchange.cancel(true));
+        return lookup;
+    }
+
+    private Map<String, Object> decode(HttpResponse<byte[]> response) {
+        int status = response.statusCode();
+        if (status >= 300) {
+            HttpStatusCode code = HttpStatusCode.valueOf(status);
+            HttpHeaders headers = new HttpHeaders();
+            response.headers().map().forEach(headers::addAll);
+            String text = PROVIDER_NAME + " responded " + status;
+            if (code.is5xxServerError()) {
+                throw HttpServerErrorException.create(code, text, headers, response.body(), StandardCharsets.UTF_8);
+            }
+            if (code.is4xxClientError()) {
+                throw HttpClientErrorException.create(code, text, headers, response.body(), StandardCharsets.UTF_8);
+            }
+            throw new RestClientException(text);
+        }
+        try {
+            return objectMapper.readValue(response.body(), Map.class);
+        } catch (IOException ex) {
+            throw new RestClientException("Unreadable " + PROVIDER_NAME + " response", ex);
+        }
+    }
+
+    // Same exception types RestTemplate raised, so the resilience layer classifies them alike
+    private static Throwable translate(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof IOException io) {
+            return new ResourceAccessException("I/O error on " + PROVIDER_NAME + " request: " + io.getMessage(), io);
+        }
+        return cause;
+    }
 
-        String url = GOOGLE_BOOKS_API + isbn;
-        Map<String, Object> response = restTemplate.getForObject(url, Map.class);
+    // Package-private so the parsing step can be benchmarked against recorded payloads
+    Optional<ExternalBookDto> toExternalBook(String isbn, Map<String, Object> response) {
 
         if (response == null || !response.containsKey("items")) {
             return Optional.empty();
@@ -0,0 +1,71 @@
+package com.shelfio.shelfio.adapter.resilience;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "shelfio.book-provider")
+public class BookProviderResilienceProperties {
+
+    // Threads completing asynchronous lookups, independent of how many are in flight
+    private int clientThreads = 4;
+
+    private Timeouts timeouts = new Timeouts();
+
+    private RateLimit rateLimit = new RateLimit();
+
+    private Retry retry = new Retry();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Data
+    public static class Timeouts {
+
+        private Duration connect = Duration.ofSeconds(2);
+
+        // Default deadline of a whole lookup, response body included
+        private Duration read = Duration.ofSeconds(3);
+    }
+
+    @Data
+    public static class RateLimit {
+
+        // Google Books allows 1,000 requests per 100 seconds per user by default
+        private double permitsPerSecond = 10;
+
+        private int burst = 10;
+
+        // Longest a lookup waits for a permit before failing
+        private Duration maxWait = Duration.ofMillis(250);
+    }
+
+    @Data
+    public static class Retry {
+
+        // Including the first attempt
+        private int maxAttempts = 3;
+
+        private Duration initialBackoff = Duration.ofMillis(100);
+
+        private Duration maxBackoff = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class CircuitBreaker {
+
+        // Outcomes of the last calls the failure rate is computed from
+        private int slidingWindowSize = 20;
+
+        // No decision before this many calls in the window
+        private int minimumCalls = 10;
+
+        private int failureRateThreshold = 50;
+
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        // Trial calls once the open duration has passed; all must succeed to close
+        private int halfOpenCalls = 3;
+    }
+}
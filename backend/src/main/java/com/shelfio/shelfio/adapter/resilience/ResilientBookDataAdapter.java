@@ -0,0 +1,297 @@
+package com.shelfio.shelfio.adapter.resilience;
+
+import com.shelfio.shelfio.adapter.AsyncBookDataAdapter;
+import com.shelfio.shelfio.adapter.resilience.CircuitBreaker.State;
+import com.shelfio.shelfio.dto.ExternalBookDto;
+import com.shelfio.shelfio.exception.ExternalServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Protects callers from a throttled or degraded provider. Each attempt passes
+ * the circuit breaker, then the token bucket, then reaches the provider.
+ * Transient failures (I/O errors and timeouts, 5xx, 429) count against the
+ * breaker and are retried with jittered exponential backoff; ISBN lookups
+ * are idempotent GETs. Other client errors are neither retried nor counted.
+ *
+ * <p>Every failure surfaces as {@link ExternalServiceException}, immediately
+ * while the breaker is open or no permit is available in time.
+ *
+ * <p>Asynchronous lookups take the same path without blocking: permit waits
+ * and backoffs are scheduled, and the whole lookup, retries included, stays
+ * within its deadline.
+ */
+@Slf4j
+public class ResilientBookDataAdapter implements AsyncBookDataAdapter {
+
+    private static final String METRIC_PREFIX = "shelfio.book.provider.";
+
+    private final AsyncBookDataAdapter delegate;
+    private final BookProviderResilienceProperties properties;
+    private final TokenBucket rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter retries;
+    private final Counter rateLimited;
+    private final Counter circuitRejected;
+
+    public ResilientBookDataAdapter(AsyncBookDataAdapter delegate,
+                                    BookProviderResilienceProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this(delegate, properties, meterRegistry,
+                new TokenBucket(properties.getRateLimit().getPermitsPerSecond(), properties.getRateLimit().getBurst()),
+                null);
+    }
+
+    ResilientBookDataAdapter(AsyncBookDataAdapter delegate,
+                             BookProviderResilienceProperties properties,
+                             MeterRegistry meterRegistry,
+                             TokenBucket rateLimiter,
+                             CircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+
+        String provider = delegate.getProviderName();
+        Counter.Builder transitions = Counter.builder(METRIC_PREFIX + "circuit.transitions")
+                .description("Circuit breaker state changes")
+                .tag("provider", provider);
+        this.circuitBreaker = circuitBreaker != null ? circuitBreaker
+                : new CircuitBreaker(properties.getCircuitBreaker(), state -> {
+                    log.warn("Circuit breaker of {} is now {}", provider, state);
+                    transitions.tag("state", state.name()).register(meterRegistry).increment();
+                });
+
+        for (State state : State.values()) {
+            Gauge.builder(METRIC_PREFIX + "circuit.state", this.circuitBreaker,
+                            breaker -> breaker.getState() == state ? 1 : 0)
+                    .description("1 for the current circuit breaker state")
+                    .tag("provider", provider)
+                    .tag("state", state.name())
+                    .register(meterRegistry);
+        }
+        Gauge.builder(METRIC_PREFIX + "rate-limit.available", rateLimiter, TokenBucket::availablePermits)
+                .description("Permits left in the client-side token bucket")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.retries = counter(meterRegistry, "retries", "Retried lookups after a transient failure", provider);
+        this.rateLimited = counter(meterRegistry, "rate-limit.rejected",
+                "Lookups rejected for want of a rate limit permit", provider);
+        this.circuitRejected = counter(meterRegistry, "circuit.rejected",
+                "Lookups rejected while the circuit breaker was open", provider);
+    }
+
+    @Override
+    public Optional<ExternalBookDto> fetchBookByIsbn(String isbn) {
+        int maxAttempts = maxAttempts();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return attempt(isbn);
+            } catch (RestClientException ex) {
+                if (!isTransient(ex) || attempt >= maxAttempts) {
+                    throw new ExternalServiceException(
+                            getProviderName() + " lookup failed for ISBN " + isbn + ": " + ex.getMessage(), ex);
+                }
+                long backoff = backoffNanos(attempt);
+                log.debug("Retrying {} lookup for ISBN {} in {} ms after: {}",
+                        getProviderName(), isbn, TimeUnit.NANOSECONDS.toMillis(backoff), ex.getMessage());
+                retries.increment();
+                sleep(backoff);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Optional<ExternalBookDto>> fetchBookByIsbnAsync(String isbn, Duration deadline) {
+        CompletableFuture<Optional<ExternalBookDto>> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<?>> inFlight = new AtomicReference<>();
+        // Cancelling the lookup aborts the attempt in flight
+        result.whenComplete((book, error) -> {
+            CompletableFuture<?> current = inFlight.get();
+            if (current != null) {
+                current.cancel(true);
+            }
+        });
+        attemptAsync(isbn, System.nanoTime() + deadline.toNanos(), 1, result, inFlight);
+        return result;
+    }
+
+    @Override
+    public Duration getDefaultDeadline() {
+        return delegate.getDefaultDeadline();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    private Optional<ExternalBookDto> attempt(String isbn) {
+        long wait = acquire();
+        if (wait > 0) {
+            try {
+                sleep(wait);
+            } catch (ExternalServiceException ex) {
+                circuitBreaker.release();
+                throw ex;
+            }
+        }
+
+        try {
+            Optional<ExternalBookDto> book = delegate.fetchBookByIsbn(isbn);
+            circuitBreaker.onSuccess();
+            return book;
+        } catch (RuntimeException ex) {
+            recordFailure(ex);
+            throw ex;
+        }
+    }
+
+    private void attemptAsync(String isbn, long deadlineAt, int attempt,
+                              CompletableFuture<Optional<ExternalBookDto>> result,
+                              AtomicReference<CompletableFuture<?>> inFlight) {
+        if (result.isDone()) {
+            return;
+        }
+        long wait;
+        try {
+            wait = acquire();
+        } catch (ExternalServiceException ex) {
+            result.completeExceptionally(ex);
+            return;
+        }
+
+        // The permit is waited for on the scheduler, not on a thread of ours
+        CompletableFuture<Void> permit = wait > 0
+                ? CompletableFuture.runAsync(() -> { },
+                        CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS))
+                : CompletableFuture.completedFuture(null);
+        inFlight.set(permit);
+        CompletableFuture<Optional<ExternalBookDto>> call = permit.thenCompose(ignored -> {
+            long remaining = deadlineAt - System.nanoTime();
+            if (result.isDone() || remaining <= 0) {
+                throw new CancellationException("Lookup ended before the provider was called");
+            }
+            CompletableFuture<Optional<ExternalBookDto>> lookup =
+                    delegate.fetchBookByIsbnAsync(isbn, Duration.ofNanos(remaining));
+            inFlight.set(lookup);
+            if (result.isDone()) {
+                lookup.cancel(true);
+            }
+            return lookup;
+        });
+
+        call.whenComplete((book, error) -> {
+            if (error == null) {
+                circuitBreaker.onSuccess();
+                result.complete(book);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            if (cause instanceof CancellationException) {
+                // Never answered by the provider, so it tells nothing about its health
+                circuitBreaker.release();
+                result.completeExceptionally(new ExternalServiceException(
+                        getProviderName() + " lookup for ISBN " + isbn + " exceeded its deadline", cause));
+                return;
+            }
+            recordFailure(cause);
+            if (!(cause instanceof RestClientException ex)) {
+                result.completeExceptionally(cause);
+                return;
+            }
+            long backoff = backoffNanos(attempt);
+            if (!isTransient(ex) || attempt >= maxAttempts() || System.nanoTime() + backoff >= deadlineAt) {
+                result.completeExceptionally(new ExternalServiceException(
+                        getProviderName() + " lookup failed for ISBN " + isbn + ": " + ex.getMessage(), ex));
+                return;
+            }
+            log.debug("Retrying {} lookup for ISBN {} in {} ms after: {}",
+                    getProviderName(), isbn, TimeUnit.NANOSECONDS.toMillis(backoff), ex.getMessage());
+            retries.increment();
+            CompletableFuture.delayedExecutor(backoff, TimeUnit.NANOSECONDS)
+                    .execute(() -> attemptAsync(isbn, deadlineAt, attempt + 1, result, inFlight));
+        });
+    }
+
+    /**
+     * Passes the circuit breaker and reserves a rate limit permit.
+     *
+     * @return nanoseconds to wait before calling the provider
+     */
+    private long acquire() {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            circuitRejected.increment();
+            throw new ExternalServiceException(getProviderName() + " is unavailable, retry in "
+                    + circuitBreaker.remainingOpenDuration().toSeconds() + "s");
+        }
+        long wait = rateLimiter.reserve(properties.getRateLimit().getMaxWait());
+        if (wait < 0) {
+            circuitBreaker.release();
+            rateLimited.increment();
+            throw new ExternalServiceException(getProviderName() + " request rate limit reached, try again later");
+        }
+        return wait;
+    }
+
+    private void recordFailure(Throwable failure) {
+        // A client error, or a failure of ours, still means the provider answered
+        if (failure instanceof RestClientException ex && isTransient(ex)) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    private int maxAttempts() {
+        return Math.max(1, properties.getRetry().getMaxAttempts());
+    }
+
+    static boolean isTransient(RestClientException ex) {
+        return ex instanceof ResourceAccessException
+                || ex instanceof HttpServerErrorException
+                || ex instanceof HttpClientErrorException client
+                && client.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS;
+    }
+
+    // Exponential, capped, with half of the delay randomized so concurrent retries spread out
+    private long backoffNanos(int attempt) {
+        long initial = properties.getRetry().getInitialBackoff().toNanos();
+        long max = properties.getRetry().getMaxBackoff().toNanos();
+        long delay = Math.min(max, initial << Math.min(attempt - 1, 20));
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException("Interrupted while waiting to call the book provider", ex);
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String description, String provider) {
+        return Counter.builder(METRIC_PREFIX + name)
+                .description(description)
+                .tag("provider", provider)
+                .register(registry);
+    }
+}
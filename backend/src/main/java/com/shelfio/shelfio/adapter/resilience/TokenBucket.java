@@ -0,0 +1,63 @@
+package com.shelfio.shelfio.adapter.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side rate limiter: {@code burst} permits, refilled continuously at
+ * {@code permitsPerSecond}. A caller may reserve a permit that only becomes
+ * available within its maximum wait; it then sleeps outside the lock.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double permitsPerNano;
+    private final LongSupplier nanoClock;
+
+    private double permits;
+    private long refilledAt;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        this.capacity = burst;
+        this.permitsPerNano = permitsPerSecond / 1e9;
+        this.nanoClock = nanoClock;
+        this.permits = burst;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * Reserves one permit.
+     *
+     * @return nanoseconds to wait before using the permit, or -1 if none is
+     * available within {@code maxWait} (nothing is reserved then)
+     */
+    public synchronized long reserve(Duration maxWait) {
+        refill();
+        if (permits >= 1) {
+            permits -= 1;
+            return 0;
+        }
+        long wait = (long) Math.ceil((1 - permits) / permitsPerNano);
+        if (wait > maxWait.toNanos()) {
+            return -1;
+        }
+        // Goes negative: later callers queue up behind this reservation
+        permits -= 1;
+        return wait;
+    }
+
+    public synchronized double availablePermits() {
+        refill();
+        return Math.max(0, permits);
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        permits = Math.min(capacity, permits + (now - refilledAt) * permitsPerNano);
+        refilledAt = now;
+    }
+}
@@ -0,0 +1,177 @@
+package com.shelfio.shelfio.batch;
+
+import com.shelfio.shelfio.controller.BookController;
+import com.shelfio.shelfio.controller.CollectionController;
+import com.shelfio.shelfio.controller.ReviewController;
+import com.shelfio.shelfio.dto.response.ApiResponse;
+import com.shelfio.shelfio.exception.InvalidInputException;
+import com.shelfio.shelfio.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The read operations that can be part of a batch: the GET mappings of the
+ * book, collection and review controllers, as registered with Spring MVC.
+ * Sub-requests go through the controller beans, with path variables and
+ * request parameters bound from the same annotations MVC binds them from,
+ * defaults included, so they are validated, logged and shaped exactly like
+ * standalone requests.
+ */
+@Component
+public class BatchOperations {
+
+    private static final Set<Class<?>> BATCHABLE_CONTROLLERS =
+            Set.of(BookController.class, CollectionController.class, ReviewController.class);
+
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private static final TypeDescriptor STRING = TypeDescriptor.valueOf(String.class);
+
+    private record Route(PathPattern pattern, HandlerMethod handler) {
+    }
+
+    private final List<Route> routes = new ArrayList<>();
+    private final ConversionService conversionService;
+
+    public BatchOperations(@Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping,
+                           @Qualifier("mvcConversionService") ConversionService conversionService) {
+        this.conversionService = conversionService;
+        handlerMapping.getHandlerMethods().forEach((mapping, handler) -> {
+            if (isBatchable(mapping, handler)) {
+                mapping.getPathPatternsCondition().getPatterns()
+                        .forEach(pattern -> routes.add(new Route(pattern, handler)));
+            }
+        });
+        // Literal segments win over variables, e.g. /api/collections/summaries over /api/collections/{id}
+        routes.sort((a, b) -> PathPattern.SPECIFICITY_COMPARATOR.compare(a.pattern(), b.pattern()));
+    }
+
+    /**
+     * Runs the operation behind a GET path with optional query string.
+     *
+     * @throws ResourceNotFoundException if no batchable operation matches the path
+     */
+    public ResponseEntity<? extends ApiResponse<?>> invoke(String target) {
+        UriComponents uri = UriComponentsBuilder.fromUriString(target).build();
+        PathContainer path = PathContainer.parsePath(uri.getPath() != null ? uri.getPath() : "");
+
+        for (Route route : routes) {
+            PathPattern.PathMatchInfo match = route.pattern().matchAndExtract(path);
+            if (match != null) {
+                return invoke(route.handler(), match.getUriVariables(), decode(uri.getQueryParams()));
+            }
+        }
+        throw new ResourceNotFoundException("No batchable read operation for path: " + uri.getPath());
+    }
+
+    // GET mappings whose arguments all come from the path or the query string
+    private static boolean isBatchable(RequestMappingInfo mapping, HandlerMethod handler) {
+        return BATCHABLE_CONTROLLERS.contains(handler.getBeanType())
+                && mapping.getMethodsCondition().getMethods().contains(RequestMethod.GET)
+                && mapping.getPathPatternsCondition() != null
+                && ResponseEntity.class.isAssignableFrom(handler.getMethod().getReturnType())
+                && Arrays.stream(handler.getMethodParameters()).allMatch(parameter ->
+                        parameter.hasParameterAnnotation(PathVariable.class)
+                                || parameter.hasParameterAnnotation(RequestParam.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ResponseEntity<? extends ApiResponse<?>> invoke(HandlerMethod handler,
+                                                            Map<String, String> path,
+                                                            MultiValueMap<String, String> query) {
+        HandlerMethod resolved = handler.createWithResolvedBean();
+        MethodParameter[] parameters = resolved.getMethodParameters();
+        Object[] arguments = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            arguments[i] = argument(parameters[i], path, query);
+        }
+        try {
+            return (ResponseEntity<? extends ApiResponse<?>>) resolved.getMethod().invoke(resolved.getBean(), arguments);
+        } catch (InvocationTargetException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Batch operation failed", ex.getCause());
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException("Batch operation is not accessible", ex);
+        }
+    }
+
+    private Object argument(MethodParameter parameter, Map<String, String> path, MultiValueMap<String, String> query) {
+        parameter.initParameterNameDiscovery(PARAMETER_NAMES);
+
+        PathVariable pathVariable = parameter.getParameterAnnotation(PathVariable.class);
+        if (pathVariable != null) {
+            String name = nameOf(pathVariable.name(), pathVariable.value(), parameter);
+            return convert(name, path.get(name), parameter);
+        }
+
+        RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+        String name = nameOf(requestParam.name(), requestParam.value(), parameter);
+        String value = query.getFirst(name);
+        // Like MVC, an empty value counts as missing
+        if (value == null || value.isEmpty()) {
+            if (!ValueConstants.DEFAULT_NONE.equals(requestParam.defaultValue())) {
+                value = requestParam.defaultValue();
+            } else if (requestParam.required()) {
+                throw new InvalidInputException(String.format("Missing required parameter '%s'", name));
+            } else {
+                return null;
+            }
+        }
+        return convert(name, value, parameter);
+    }
+
+    private Object convert(String name, String value, MethodParameter parameter) {
+        try {
+            return conversionService.convert(value, STRING, new TypeDescriptor(parameter));
+        } catch (ConversionException ex) {
+            throw new InvalidInputException(String.format("Invalid value '%s' for parameter '%s'", value, name));
+        }
+    }
+
+    // name and value are aliases, but the annotations are read without alias resolution
+    private static String nameOf(String name, String value, MethodParameter parameter) {
+        if (!name.isEmpty()) {
+            return name;
+        }
+        return !value.isEmpty() ? value : parameter.getParameterName();
+    }
+
+    private static MultiValueMap<String, String> decode(MultiValueMap<String, String> query) {
+        MultiValueMap<String, String> decoded = new LinkedMultiValueMap<>();
+        query.forEach((name, values) -> values.forEach(value -> decoded.add(
+                UriUtils.decode(name, StandardCharsets.UTF_8),
+                value != null ? UriUtils.decode(value, StandardCharsets.UTF_8) : "")));
+        return decoded;
+    }
+}
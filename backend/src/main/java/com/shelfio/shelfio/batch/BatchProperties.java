@@ -0,0 +1,17 @@
+package com.shelfio.shelfio.batch;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "shelfio.batch")
+public class BatchProperties {
+
+    // Threads running sub-requests of parallel batches, shared by all batches
+    private int threads = 8;
+
+    // Sub-requests still running after this are cancelled and reported as timed out
+    private Duration timeout = Duration.ofSeconds(10);
+}
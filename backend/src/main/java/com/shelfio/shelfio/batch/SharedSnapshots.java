@@ -0,0 +1,53 @@
+package com.shelfio.shelfio.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * Lets several transactions read from one snapshot: PostgreSQL exports the
+ * snapshot of a REPEATABLE READ transaction, and other REPEATABLE READ
+ * transactions on the same server import it before their first query. The
+ * exporting transaction must stay open until all of them have imported it.
+ */
+@Component
+@RequiredArgsConstructor
+public class SharedSnapshots {
+
+    // e.g. 00000003-0000001B-1; imported as a literal, SET TRANSACTION takes no parameters
+    private static final Pattern SNAPSHOT_ID = Pattern.compile("[0-9A-F]+(-[0-9A-F]+)+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean supported;
+
+    public boolean isSupported() {
+        Boolean result = supported;
+        if (result == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            result = supported = "PostgreSQL".equals(product);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the id of the current transaction's snapshot.
+     */
+    public String export() {
+        return jdbcTemplate.queryForObject("SELECT pg_export_snapshot()", String.class);
+    }
+
+    /**
+     * Makes the current transaction read from an exported snapshot. Must be the
+     * transaction's first statement.
+     */
+    public void importSnapshot(String snapshotId) {
+        if (!SNAPSHOT_ID.matcher(snapshotId).matches()) {
+            throw new IllegalArgumentException("Invalid snapshot id: " + snapshotId);
+        }
+        jdbcTemplate.execute("SET TRANSACTION SNAPSHOT '" + snapshotId + "'");
+    }
+}
@@ -0,0 +1,171 @@
+package com.shelfio.shelfio.cache;
+
+import com.shelfio.shelfio.event.LibraryChangeEvent;
+import com.shelfio.shelfio.progress.PagesReadFlushedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serialized responses of hot read endpoints, kept per library.
+ *
+ * <p>Each library has a version in {@code library_versions}, incremented in
+ * the transaction of every change, so all instances see it together with the
+ * change. A response is stored with the version read before it was rendered
+ * and only served while that is still the current version, so a hit never
+ * predates the last committed change of its library.
+ *
+ * <p>Buffered pages-read updates only exist in this instance's write-behind
+ * buffer until they are flushed; they invalidate the local responses instead.
+ */
+public class ResponseCache {
+
+    private static final String SELECT_VERSION = "SELECT version FROM library_versions WHERE library_id = ?";
+
+    private static final String INCREMENT_VERSION =
+            "UPDATE library_versions SET version = version + 1 WHERE library_id = ?";
+
+    private static final String INSERT_VERSION =
+            "INSERT INTO library_versions (library_id, version) VALUES (?, 0) ON CONFLICT DO NOTHING";
+
+    /**
+     * Identifies a response within a library. The {@code Accept} header is part
+     * of the key since it selects the serialization format.
+     */
+    public record Key(String path, String query, String accept) {
+    }
+
+    /**
+     * Response bytes as written by the controller, with an optional gzip copy.
+     */
+    public record CachedResponse(String contentType, byte[] body, byte[] gzipBody) {
+    }
+
+    /**
+     * Shared library version and local buffered-change epoch a response was rendered at.
+     */
+    public record Stamp(long version, long epoch) {
+    }
+
+    private final ResponseCacheProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, LibraryResponses> libraries = new ConcurrentHashMap<>();
+    private final Counter invalidations;
+
+    public ResponseCache(ResponseCacheProperties properties, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.invalidations = meterRegistry.counter("shelfio.response-cache.invalidations");
+        meterRegistry.gaugeMapSize("shelfio.response-cache.libraries", List.of(), libraries);
+    }
+
+    public LibraryResponses forLibrary(String libraryId) {
+        LibraryResponses responses = libraries.computeIfAbsent(libraryId, LibraryResponses::new);
+        if (libraries.size() > properties.getMaxLibraries()) {
+            evictLibraries(libraryId);
+        }
+        return responses;
+    }
+
+    /**
+     * Increments the library's version as the last step of the change's
+     * transaction, which keeps the row locked only briefly.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onLibraryChange(LibraryChangeEvent event) {
+        if (!event.isBuffered()) {
+            incrementVersion(event.getLibraryId());
+        }
+    }
+
+    /**
+     * Buffered changes are visible through the buffer once their transaction
+     * has committed; until they are flushed, only in this instance.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBufferedLibraryChange(LibraryChangeEvent event) {
+        LibraryResponses responses = libraries.get(event.getLibraryId());
+        if (event.isBuffered() && responses != null) {
+            responses.invalidateLocal();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onPagesReadFlushed(PagesReadFlushedEvent event) {
+        incrementVersion(event.getLibraryId());
+    }
+
+    private void incrementVersion(String libraryId) {
+        if (jdbcTemplate.update(INCREMENT_VERSION, libraryId) == 0) {
+            jdbcTemplate.update(INSERT_VERSION, libraryId);
+            jdbcTemplate.update(INCREMENT_VERSION, libraryId);
+        }
+        invalidations.increment();
+    }
+
+    // Dropped libraries start over empty; in-flight renders store into the dropped instance
+    private void evictLibraries(String keep) {
+        Iterator<String> ids = libraries.keySet().iterator();
+        while (libraries.size() > properties.getMaxLibraries() && ids.hasNext()) {
+            if (!ids.next().equals(keep)) {
+                ids.remove();
+            }
+        }
+    }
+
+    public final class LibraryResponses {
+
+        private final String libraryId;
+        private final AtomicLong epoch = new AtomicLong();
+        private final AtomicLong latestVersion = new AtomicLong(-1);
+        private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+        private LibraryResponses(String libraryId) {
+            this.libraryId = libraryId;
+        }
+
+        /**
+         * Reads the current version, one primary key lookup. Responses of older
+         * versions are dropped once a newer version has been seen.
+         */
+        public Stamp stamp() {
+            long currentEpoch = epoch.get();
+            List<Long> versions = jdbcTemplate.queryForList(SELECT_VERSION, Long.class, libraryId);
+            long version = versions.isEmpty() ? 0 : versions.get(0);
+            long previous = latestVersion.getAndAccumulate(version, Math::max);
+            if (version > previous) {
+                entries.values().removeIf(entry -> entry.stamp.version() < version);
+            }
+            return new Stamp(version, currentEpoch);
+        }
+
+        public CachedResponse get(Key key, Stamp stamp) {
+            Entry entry = entries.get(key);
+            return entry != null && entry.stamp.equals(stamp) ? entry.response : null;
+        }
+
+        public void put(Stamp stamp, Key key, CachedResponse response) {
+            if (stamp.epoch() != epoch.get() || stamp.version() < latestVersion.get()
+                    || entries.size() >= properties.getMaxEntriesPerLibrary()) {
+                return;
+            }
+            entries.put(key, new Entry(stamp, response));
+        }
+
+        private void invalidateLocal() {
+            epoch.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    private record Entry(Stamp stamp, CachedResponse response) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.shelfio.shelfio.cache;
+
+import com.shelfio.shelfio.cache.ResponseCache.CachedResponse;
+import com.shelfio.shelfio.cache.ResponseCache.Key;
+import com.shelfio.shelfio.cache.ResponseCache.LibraryResponses;
+import com.shelfio.shelfio.cache.ResponseCache.Stamp;
+import com.shelfio.shelfio.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves GET requests of the configured endpoints from the {@link ResponseCache}.
+ *
+ * <p>On a miss the request is handled as usual; a 200 response is buffered,
+ * stored under the library version read before handling and then written out.
+ * Hits and misses both read the current version, one primary key lookup.
+ * Clients sending {@code Accept-Encoding: gzip} get the compressed copy when
+ * there is one.
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+
+    private final ResponseCache cache;
+    private final ResponseCacheProperties properties;
+    private final Set<String> paths;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseCacheFilter(ResponseCache cache, ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = cache;
+        this.properties = properties;
+        this.paths = Set.copyOf(properties.getPaths());
+        this.hits = meterRegistry.counter("shelfio.response-cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("shelfio.response-cache.requests", "result", "miss");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !paths.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        LibraryResponses library = cache.forLibrary(TenantContext.getLibraryId());
+        Stamp stamp = library.stamp();
+        Key key = new Key(request.getRequestURI(), request.getQueryString(), request.getHeader(HttpHeaders.ACCEPT));
+        boolean gzip = acceptsGzip(request);
+
+        CachedResponse cached = library.get(key, stamp);
+        if (cached != null) {
+            hits.increment();
+            write(cached, response, gzip);
+            return;
+        }
+        misses.increment();
+
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, buffered);
+
+        if (buffered.getStatus() != HttpServletResponse.SC_OK
+                || buffered.getContentType() == null
+                || buffered.getContentSize() > properties.getMaxBodySize().toBytes()) {
+            buffered.copyBodyToResponse();
+            return;
+        }
+
+        cached = toCachedResponse(buffered);
+        library.put(stamp, key, cached);
+        write(cached, response, gzip);
+    }
+
+    private CachedResponse toCachedResponse(ContentCachingResponseWrapper buffered) throws IOException {
+        byte[] body = buffered.getContentAsByteArray();
+        byte[] gzipBody = properties.isCompress() && body.length >= properties.getCompressMinSize().toBytes()
+                ? gzip(body)
+                : null;
+        return new CachedResponse(buffered.getContentType(), body, gzipBody);
+    }
+
+    private void write(CachedResponse cached, HttpServletResponse response, boolean gzip) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        if (properties.isCompress()) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        byte[] body = cached.body();
+        if (gzip && cached.gzipBody() != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            body = cached.gzipBody();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    // gzip listed in Accept-Encoding and not refused with q=0
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!GZIP.equalsIgnoreCase(parts[0].trim())) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                if (parts[i].replace(" ", "").matches("q=0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
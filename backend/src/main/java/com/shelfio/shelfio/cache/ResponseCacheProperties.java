@@ -0,0 +1,37 @@
+package com.shelfio.shelfio.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "shelfio.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    // GET endpoints whose responses are cached, matched on the exact path
+    private List<String> paths = new ArrayList<>(List.of(
+            "/api/books",
+            "/api/books/recent",
+            "/api/books/latest",
+            "/api/books/count",
+            "/api/collections"));
+
+    // Responses kept per library, across paths, query strings and media types
+    private int maxEntriesPerLibrary = 64;
+
+    // Libraries with cached responses; beyond this, arbitrary libraries are dropped
+    private int maxLibraries = 1000;
+
+    // Larger responses are served as usual but not cached
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+
+    // Keep a gzip copy of responses of at least compressMinSize for clients accepting gzip
+    private boolean compress = true;
+
+    private DataSize compressMinSize = DataSize.ofKilobytes(1);
+}
@@ -0,0 +1,52 @@
+package com.shelfio.shelfio.cache;
+
+import com.shelfio.shelfio.entity.Book;
+import com.shelfio.shelfio.entity.Review;
+import com.shelfio.shelfio.event.LibraryChangeEvent;
+import com.shelfio.shelfio.event.LibraryChangeEvent.Type;
+import com.shelfio.shelfio.progress.PagesReadFlushedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts second-level cache entries for rows changed outside of Hibernate:
+ * pages-read values written by the write-behind buffer, and reviews removed
+ * by the database's ON DELETE CASCADE when their books are deleted.
+ *
+ * <p>Runs after commit, so evicted entries are reloaded with the committed values.
+ * Cache keys include the library, so single books are evicted with the
+ * library of the flush.
+ */
+@Slf4j
+@Component
+public class SecondLevelCacheEvictor {
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final EntityPersister bookPersister;
+
+    public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.bookPersister = sessionFactory.getMappingMetamodel().getEntityDescriptor(Book.class);
+    }
+
+    @TransactionalEventListener
+    public void onPagesReadFlushed(PagesReadFlushedEvent event) {
+        EntityDataAccess books = bookPersister.getCacheAccessStrategy();
+        for (Long bookId : event.getBookIds()) {
+            books.evict(books.generateCacheKey(bookId, bookPersister, sessionFactory, event.getLibraryId()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onLibraryChange(LibraryChangeEvent event) {
+        if (event.getType() == Type.BOOK_DELETED) {
+            sessionFactory.getCache().evict(Review.class);
+            log.debug("Evicted cached reviews after deleting {} books", event.getIds().size());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.shelfio.shelfio.config;
+
+import com.shelfio.shelfio.adapter.AsyncBookDataAdapter;
+import com.shelfio.shelfio.adapter.MeteredBookDataAdapter;
+import com.shelfio.shelfio.adapter.google.GoogleBooksAdapter;
+import com.shelfio.shelfio.adapter.resilience.BookProviderResilienceProperties;
+import com.shelfio.shelfio.adapter.resilience.ResilientBookDataAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableConfigurationProperties(BookProviderResilienceProperties.class)
+public class BookDataAdapterConfig {
+
+    @Bean
+    public HttpClient bookProviderHttpClient(BookProviderResilienceProperties properties) {
+        // Only decodes responses and completes futures; the client's selector thread does the I/O
+        AtomicInteger threads = new AtomicInteger();
+        Executor executor = Executors.newFixedThreadPool(properties.getClientThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "book-provider-http-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        return HttpClient.newBuilder()
+                .connectTimeout(properties.getTimeouts().getConnect())
+                .executor(executor)
+                .build();
+    }
+
+    // Serves blocking and asynchronous lookups alike
+    @Bean
+    @Primary
+    public AsyncBookDataAdapter bookDataAdapter(GoogleBooksAdapter googleBooksAdapter,
+                                           BookProviderResilienceProperties properties,
+                                           MeterRegistry meterRegistry) {
+        // Metered inside the resilience layer so every attempt, retries included, is recorded
+        return new ResilientBookDataAdapter(
+                new MeteredBookDataAdapter(googleBooksAdapter, meterRegistry), properties, meterRegistry);
+    }
+}
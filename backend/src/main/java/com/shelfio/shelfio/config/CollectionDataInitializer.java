@@ -1,20 +1,46 @@
 package com.shelfio.shelfio.config;
 
 import com.shelfio.shelfio.entity.Collection;
+import com.shelfio.shelfio.event.LibraryChangeEvent;
 import com.shelfio.shelfio.repository.CollectionRepository;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class CollectionDataInitializer {
 
     private final CollectionRepository collectionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Set by the startup profile, where seed checks must not hold back readiness
+    @Value("${shelfio.startup.defer-seeding:false}")
+    private boolean deferSeeding;
 
-    @PostConstruct
+    // Before readiness, so no request sees the collection missing
+    @EventListener(ApplicationStartedEvent.class)
     public void initFavoritesCollection() {
+        if (!deferSeeding) {
+            seed();
+        }
+    }
+
+    @EventListener
+    public void initFavoritesCollectionDeferred(AvailabilityChangeEvent<ReadinessState> event) {
+        if (deferSeeding && event.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+            seed();
+        }
+    }
 
+    private void seed() {
         boolean exists =
                 collectionRepository.existsByNameIgnoreCase("Favorites");
 
@@ -22,7 +48,10 @@ public class CollectionDataInitializer {
             Collection favorites = new Collection();
             favorites.setName("Favorites");
 
-            collectionRepository.save(favorites);
+            Collection saved = collectionRepository.save(favorites);
+            // Requests may already be served when seeding is deferred, e.g. from the response cache
+            eventPublisher.publishEvent(LibraryChangeEvent.of(
+                    LibraryChangeEvent.Type.COLLECTION_CREATED, List.of(saved.getCollectionId())));
         }
     }
 }
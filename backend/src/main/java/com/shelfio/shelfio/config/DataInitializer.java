@@ -3,8 +3,12 @@ package com.shelfio.shelfio.config;
 import com.shelfio.shelfio.entity.ReadingStatus;
 import com.shelfio.shelfio.repository.ReadingStatusRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 
 
 import java.util.List;
@@ -12,16 +16,38 @@ import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
-public class DataInitializer implements CommandLineRunner {
+public class DataInitializer {
 
 
     private final ReadingStatusRepository readingStatusRepository;
 
 
-    @Override
-    public void run(String... args) {
+    // Set by the startup profile, where seed checks must not hold back readiness
+    @Value("${shelfio.startup.defer-seeding:false}")
+    private boolean deferSeeding;
 
 
+    // Before readiness, so no request sees the statuses missing
+    @EventListener(ApplicationStartedEvent.class)
+    public void seedReadingStatuses() {
+
+        if (!deferSeeding) {
+            seed();
+        }
+    }
+
+
+    @EventListener
+    public void seedReadingStatusesDeferred(AvailabilityChangeEvent<ReadinessState> event) {
+
+        if (deferSeeding && event.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+            seed();
+        }
+    }
+
+
+    private void seed() {
+
         List<String> defaultStatuses = List.of(
                 "Not started",
                 "Reading",
@@ -38,4 +64,4 @@ public class DataInitializer implements CommandLineRunner {
                     ));
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package com.shelfio.shelfio.config;
+
+import com.shelfio.shelfio.event.EventStreamProperties;
+import com.shelfio.shelfio.event.LibraryEventBroadcaster;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(EventStreamProperties.class)
+public class EventStreamConfig {
+
+    @Bean
+    public LibraryEventBroadcaster libraryEventBroadcaster(
+            EventStreamProperties properties,
+            MeterRegistry meterRegistry) {
+
+        return new LibraryEventBroadcaster(properties, meterRegistry);
+    }
+}
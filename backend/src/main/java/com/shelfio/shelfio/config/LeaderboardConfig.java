@@ -0,0 +1,10 @@
+package com.shelfio.shelfio.config;
+
+import com.shelfio.shelfio.leaderboard.LeaderboardProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LeaderboardProperties.class)
+public class LeaderboardConfig {
+}
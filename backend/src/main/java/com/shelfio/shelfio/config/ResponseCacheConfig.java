@@ -0,0 +1,46 @@
+package com.shelfio.shelfio.config;
+
+import com.shelfio.shelfio.cache.ResponseCache;
+import com.shelfio.shelfio.cache.ResponseCacheFilter;
+import com.shelfio.shelfio.cache.ResponseCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Response cache for hot read endpoints. Off with replica routing: the version
+ * is read from the primary, so a replica lagging behind it would get its older
+ * data cached under the new version. Enable it on all instances or none, since
+ * versions are only incremented by instances that have it enabled.
+ */
+@Configuration
+@ConditionalOnExpression("${shelfio.response-cache.enabled:true} and !${shelfio.datasource.replica.enabled:false}")
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+
+    @Bean
+    public ResponseCache responseCache(ResponseCacheProperties properties,
+                                       JdbcTemplate jdbcTemplate,
+                                       MeterRegistry meterRegistry) {
+        return new ResponseCache(properties, jdbcTemplate, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+            ResponseCache responseCache,
+            ResponseCacheProperties properties,
+            MeterRegistry meterRegistry) {
+
+        FilterRegistrationBean<ResponseCacheFilter> registration =
+                new FilterRegistrationBean<>(new ResponseCacheFilter(responseCache, properties, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        // After the library is resolved and CORS headers are set, so hits carry them too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 4);
+        return registration;
+    }
+}
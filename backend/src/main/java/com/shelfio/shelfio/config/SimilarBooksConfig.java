@@ -0,0 +1,54 @@
+package com.shelfio.shelfio.config;
+
+import com.shelfio.shelfio.recommendation.SimilarBooksIndex;
+import com.shelfio.shelfio.recommendation.SimilarBooksProperties;
+import com.shelfio.shelfio.repository.BookRepository;
+import com.shelfio.shelfio.repository.CollectionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+@Configuration
+@EnableConfigurationProperties(SimilarBooksProperties.class)
+public class SimilarBooksConfig implements SchedulingConfigurer {
+
+    private final SimilarBooksProperties properties;
+    private final ObjectProvider<SimilarBooksIndex> similarBooksIndex;
+
+    public SimilarBooksConfig(SimilarBooksProperties properties,
+                              ObjectProvider<SimilarBooksIndex> similarBooksIndex) {
+        this.properties = properties;
+        this.similarBooksIndex = similarBooksIndex;
+    }
+
+    @Bean
+    public SimilarBooksIndex similarBooksIndex(
+            BookRepository bookRepository,
+            CollectionRepository collectionRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+
+        return new SimilarBooksIndex(
+                properties, bookRepository, collectionRepository, transactionManager, meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(
+                () -> similarBooksIndex.getObject().refresh(),
+                properties.getRefreshInterval());
+        // The first run builds the index at startup, off the request path
+        registrar.addFixedDelayTask(new FixedDelayTask(
+                () -> similarBooksIndex.getObject().rebuildAll(),
+                properties.getFullRebuildInterval(),
+                Duration.ZERO));
+    }
+}
@@ -0,0 +1,38 @@
+package com.shelfio.shelfio.config;
+
+import com.shelfio.shelfio.sync.ChangeLogSequencer;
+import com.shelfio.shelfio.sync.SyncProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@EnableConfigurationProperties(SyncProperties.class)
+public class SyncConfig implements SchedulingConfigurer {
+
+    private final SyncProperties properties;
+    private final ObjectProvider<ChangeLogSequencer> changeLogSequencer;
+
+    public SyncConfig(SyncProperties properties, ObjectProvider<ChangeLogSequencer> changeLogSequencer) {
+        this.properties = properties;
+        this.changeLogSequencer = changeLogSequencer;
+    }
+
+    @Bean
+    public ChangeLogSequencer changeLogSequencer(JdbcTemplate jdbcTemplate,
+                                                 PlatformTransactionManager transactionManager) {
+        return new ChangeLogSequencer(jdbcTemplate, transactionManager);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(
+                () -> changeLogSequencer.getObject().sequenceQuietly(),
+                properties.getSequenceInterval());
+    }
+}
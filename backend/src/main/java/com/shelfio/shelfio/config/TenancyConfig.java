@@ -0,0 +1,36 @@
+package com.shelfio.shelfio.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shelfio.shelfio.tenant.LibraryTenantResolver;
+import com.shelfio.shelfio.tenant.TenantAwareJpaRepository;
+import com.shelfio.shelfio.tenant.TenantFilter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@Configuration
+@EnableJpaRepositories(
+        basePackages = "com.shelfio.shelfio.repository",
+        repositoryBaseClass = TenantAwareJpaRepository.class)
+public class TenancyConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer tenantResolverCustomizer() {
+        return properties -> properties.put(
+                AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, new LibraryTenantResolver());
+    }
+
+    @Bean
+    public FilterRegistrationBean<TenantFilter> tenantFilter(ObjectMapper objectMapper) {
+        FilterRegistrationBean<TenantFilter> registration =
+                new FilterRegistrationBean<>(new TenantFilter(objectMapper));
+        registration.addUrlPatterns("/api/*");
+        // Right after request logging, before anything that touches library data
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,50 @@
+package com.shelfio.shelfio.config;
+
+import com.shelfio.shelfio.progress.PagesReadWriteBehindProperties;
+import com.shelfio.shelfio.progress.PagesReadWriteBuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(PagesReadWriteBehindProperties.class)
+public class WriteBehindConfig implements SchedulingConfigurer {
+
+    private final PagesReadWriteBehindProperties properties;
+    private final ObjectProvider<PagesReadWriteBuffer> pagesReadWriteBuffer;
+
+    public WriteBehindConfig(PagesReadWriteBehindProperties properties,
+                             ObjectProvider<PagesReadWriteBuffer> pagesReadWriteBuffer) {
+        this.properties = properties;
+        this.pagesReadWriteBuffer = pagesReadWriteBuffer;
+    }
+
+    @Bean
+    public PagesReadWriteBuffer pagesReadWriteBuffer(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry) {
+
+        return new PagesReadWriteBuffer(
+                properties, jdbcTemplate, transactionManager, eventPublisher, meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (properties.isEnabled()) {
+            registrar.addFixedDelayTask(
+                    () -> pagesReadWriteBuffer.getObject().scheduledFlush(),
+                    properties.getFlushInterval());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.shelfio.shelfio.controller;
+
+import com.shelfio.shelfio.dto.request.BatchRequest;
+import com.shelfio.shelfio.dto.response.ApiResponse;
+import com.shelfio.shelfio.dto.response.BatchResultDto;
+import com.shelfio.shelfio.service.BatchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@Validated
+@RestController
+@RequestMapping("/api/batch")
+@RequiredArgsConstructor
+public class BatchController {
+
+    private final BatchService batchService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<List<BatchResultDto>>> executeBatch(@Valid @RequestBody BatchRequest request) {
+        log.info("Request to execute a batch of {} read requests", request.getRequests().size());
+        List<BatchResultDto> results = batchService.execute(request.getRequests(), request.isConsistent());
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
+}
@@ -1,12 +1,18 @@
 package com.shelfio.shelfio.controller;
 
 import com.shelfio.shelfio.dto.request.AddReviewRequest;
+import com.shelfio.shelfio.dto.request.BatchProgressUpdateRequest;
 import com.shelfio.shelfio.dto.request.CreateBookRequest;
+import com.shelfio.shelfio.dto.request.IdsRequest;
 import com.shelfio.shelfio.dto.request.UpdatePagesReadRequest;
 import com.shelfio.shelfio.dto.request.UpdateReadingStatusRequest;
 import com.shelfio.shelfio.dto.response.ApiResponse;
 import com.shelfio.shelfio.dto.response.BookResponseDto;
+import com.shelfio.shelfio.dto.response.BulkDeleteResultDto;
+import com.shelfio.shelfio.dto.response.ProgressUpdateResultDto;
+import com.shelfio.shelfio.dto.response.SimilarBookDto;
 import com.shelfio.shelfio.service.BookService;
+import com.shelfio.shelfio.service.RecommendationService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +32,7 @@ import java.util.List;
 public class BookController {
 
     private final BookService bookService;
+    private final RecommendationService recommendationService;
 
     @PostMapping("/isbn/{isbn}")
     public ResponseEntity<ApiResponse<BookResponseDto>> addBookByIsbn(
@@ -45,6 +52,13 @@ public class BookController {
         return ResponseEntity.ok(ApiResponse.success("Book deleted successfully", null));
     }
 
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<BulkDeleteResultDto>> deleteBooks(@Valid @RequestBody IdsRequest request) {
+        log.info("Request to delete {} books", request.getIds().size());
+        BulkDeleteResultDto result = bookService.deleteBooks(request.getIds());
+        return ResponseEntity.ok(ApiResponse.success("Books deleted successfully", result));
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<BookResponseDto>> createBookManually(
             @Valid @RequestBody CreateBookRequest request) {
@@ -92,6 +106,16 @@ public class BookController {
         return ResponseEntity.ok(ApiResponse.success("Pages read updated successfully", book));
     }
 
+    @PatchMapping("/progress")
+    public ResponseEntity<ApiResponse<List<ProgressUpdateResultDto>>> updateProgress(
+            @Valid @RequestBody BatchProgressUpdateRequest request) {
+
+        log.info("Request to update reading progress for {} books", request.getUpdates().size());
+
+        List<ProgressUpdateResultDto> results = bookService.updateProgress(request.getUpdates());
+        return ResponseEntity.ok(ApiResponse.success("Reading progress updated", results));
+    }
+
     @PostMapping("/{bookId}/review")
     public ResponseEntity<ApiResponse<BookResponseDto>> addReview(
             @PathVariable Long bookId,
@@ -128,6 +152,16 @@ public class BookController {
         return ResponseEntity.ok(ApiResponse.success(books));
     }
 
+    @GetMapping("/{bookId}/similar")
+    public ResponseEntity<ApiResponse<List<SimilarBookDto>>> getSimilarBooks(
+            @PathVariable Long bookId,
+            @RequestParam(required = false) Integer limit) {
+
+        log.info("Request to get books similar to book ID: {}", bookId);
+        List<SimilarBookDto> books = recommendationService.getSimilarBooks(bookId, limit);
+        return ResponseEntity.ok(ApiResponse.success(books));
+    }
+
     @GetMapping("/stats/pages-read")
     public ResponseEntity<ApiResponse<Integer>> getTotalPagesRead() {
         log.info("Request to get total pages read");
@@ -1,10 +1,18 @@
 package com.shelfio.shelfio.controller;
 
+import com.shelfio.shelfio.dto.request.BookIdsRequest;
 import com.shelfio.shelfio.dto.request.CreateCollectionRequest;
+import com.shelfio.shelfio.dto.request.IdsRequest;
 import com.shelfio.shelfio.dto.response.ApiResponse;
+import com.shelfio.shelfio.dto.response.BulkDeleteResultDto;
+import com.shelfio.shelfio.dto.response.CollectionBooksPageDto;
+import com.shelfio.shelfio.dto.response.CollectionMembershipResultDto;
 import com.shelfio.shelfio.dto.response.CollectionResponseDto;
+import com.shelfio.shelfio.dto.response.CollectionSummaryDto;
 import com.shelfio.shelfio.service.CollectionService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -41,6 +49,30 @@ public class CollectionController {
         return ResponseEntity.ok(ApiResponse.success(collections));
     }
 
+    @GetMapping("/summaries")
+    public ResponseEntity<ApiResponse<List<CollectionSummaryDto>>> getCollectionSummaries(
+            @RequestParam(defaultValue = "3")
+            @Min(value = 0, message = "Covers cannot be negative")
+            @Max(value = 10, message = "Covers cannot exceed 10") int covers) {
+
+        log.info("Request to get collection summaries with {} covers", covers);
+        List<CollectionSummaryDto> summaries = collectionService.getCollectionSummaries(covers);
+        return ResponseEntity.ok(ApiResponse.success(summaries));
+    }
+
+    @GetMapping("/{collectionId}/books")
+    public ResponseEntity<ApiResponse<CollectionBooksPageDto>> getCollectionBooks(
+            @PathVariable Long collectionId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 100, message = "Limit cannot exceed 100") int limit) {
+
+        log.info("Request to get books of collection ID: {} after book ID: {}", collectionId, after);
+        CollectionBooksPageDto page = collectionService.getCollectionBooks(collectionId, after, limit);
+        return ResponseEntity.ok(ApiResponse.success(page));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<CollectionResponseDto>> getCollection(@PathVariable Long id) {
         log.info("Request to get collection with ID: {}", id);
@@ -68,10 +100,39 @@ public class CollectionController {
         return ResponseEntity.ok(ApiResponse.success("Book removed from collection successfully", null));
     }
 
+    @PostMapping("/{collectionId}/books")
+    public ResponseEntity<ApiResponse<CollectionMembershipResultDto>> addBooksToCollection(
+            @PathVariable Long collectionId,
+            @Valid @RequestBody BookIdsRequest request) {
+
+        log.info("Request to add {} books to collection ID: {}", request.getBookIds().size(), collectionId);
+        CollectionMembershipResultDto result =
+                collectionService.addBooksToCollection(collectionId, request.getBookIds());
+        return ResponseEntity.ok(ApiResponse.success("Books added to collection successfully", result));
+    }
+
+    @DeleteMapping("/{collectionId}/books")
+    public ResponseEntity<ApiResponse<CollectionMembershipResultDto>> removeBooksFromCollection(
+            @PathVariable Long collectionId,
+            @Valid @RequestBody BookIdsRequest request) {
+
+        log.info("Request to remove {} books from collection ID: {}", request.getBookIds().size(), collectionId);
+        CollectionMembershipResultDto result =
+                collectionService.removeBooksFromCollection(collectionId, request.getBookIds());
+        return ResponseEntity.ok(ApiResponse.success("Books removed from collection successfully", result));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteCollection(@PathVariable Long id) {
         log.info("Request to delete collection with ID: {}", id);
         collectionService.deleteCollection(id);
         return ResponseEntity.ok(ApiResponse.success("Collection deleted successfully", null));
     }
-}
\ No newline at end of file
+
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<BulkDeleteResultDto>> deleteCollections(@Valid @RequestBody IdsRequest request) {
+        log.info("Request to delete {} collections", request.getIds().size());
+        BulkDeleteResultDto result = collectionService.deleteCollections(request.getIds());
+        return ResponseEntity.ok(ApiResponse.success("Collections deleted successfully", result));
+    }
+}
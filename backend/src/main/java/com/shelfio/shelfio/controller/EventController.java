@@ -0,0 +1,25 @@
+package com.shelfio.shelfio.controller;
+
+import com.shelfio.shelfio.event.LibraryEventBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class EventController {
+
+    private final LibraryEventBroadcaster libraryEventBroadcaster;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLibraryEvents() {
+        log.info("Request to subscribe to library events");
+        return libraryEventBroadcaster.subscribe();
+    }
+}
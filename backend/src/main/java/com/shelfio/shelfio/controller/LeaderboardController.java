@@ -0,0 +1,50 @@
+package com.shelfio.shelfio.controller;
+
+import com.shelfio.shelfio.dto.response.ApiResponse;
+import com.shelfio.shelfio.dto.response.LeaderboardEntryDto;
+import com.shelfio.shelfio.leaderboard.LeaderboardMetric;
+import com.shelfio.shelfio.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@Validated
+@RestController
+@RequestMapping("/api/leaderboards")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping("/top-rated")
+    public ResponseEntity<ApiResponse<List<LeaderboardEntryDto>>> getTopRated(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Integer limit) {
+
+        log.info("Request to get top rated books (category: {}, status: {})", category, status);
+        List<LeaderboardEntryDto> entries =
+                leaderboardService.getLeaderboard(LeaderboardMetric.TOP_RATED, category, status, limit);
+        return ResponseEntity.ok(ApiResponse.success(entries));
+    }
+
+    @GetMapping("/most-reviewed")
+    public ResponseEntity<ApiResponse<List<LeaderboardEntryDto>>> getMostReviewed(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Integer limit) {
+
+        log.info("Request to get most reviewed books (category: {}, status: {})", category, status);
+        List<LeaderboardEntryDto> entries =
+                leaderboardService.getLeaderboard(LeaderboardMetric.MOST_REVIEWED, category, status, limit);
+        return ResponseEntity.ok(ApiResponse.success(entries));
+    }
+}
@@ -1,8 +1,10 @@
 package com.shelfio.shelfio.controller;
 
 import com.shelfio.shelfio.dto.request.AddReviewRequest;
+import com.shelfio.shelfio.dto.request.IdsRequest;
 import com.shelfio.shelfio.dto.request.UpdateReviewRequest;
 import com.shelfio.shelfio.dto.response.ApiResponse;
+import com.shelfio.shelfio.dto.response.BulkDeleteResultDto;
 import com.shelfio.shelfio.dto.response.ReviewResponseDto;
 import com.shelfio.shelfio.service.ReviewService;
 import jakarta.validation.Valid;
@@ -61,4 +63,11 @@ public class ReviewController {
         reviewService.deleteReview(reviewId);
         return ResponseEntity.ok(ApiResponse.success("Review deleted successfully", null));
     }
+
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<BulkDeleteResultDto>> deleteReviews(@Valid @RequestBody IdsRequest request) {
+        log.info("Request to delete {} reviews", request.getIds().size());
+        BulkDeleteResultDto result = reviewService.deleteReviews(request.getIds());
+        return ResponseEntity.ok(ApiResponse.success("Reviews deleted successfully", result));
+    }
 }
\ No newline at end of file
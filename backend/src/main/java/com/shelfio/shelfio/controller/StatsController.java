@@ -0,0 +1,39 @@
+package com.shelfio.shelfio.controller;
+
+import com.shelfio.shelfio.dto.response.ApiResponse;
+import com.shelfio.shelfio.dto.response.ProgressBucketDto;
+import com.shelfio.shelfio.entity.ProgressRollup.Granularity;
+import com.shelfio.shelfio.service.StatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Validated
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final StatsService statsService;
+
+    @GetMapping("/progress")
+    public ResponseEntity<ApiResponse<List<ProgressBucketDto>>> getProgress(
+            @RequestParam(defaultValue = "DAY") Granularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.info("Request to get {} reading progress from {} to {}", granularity, from, to);
+        List<ProgressBucketDto> progress = statsService.getProgress(granularity, from, to);
+        return ResponseEntity.ok(ApiResponse.success(progress));
+    }
+}
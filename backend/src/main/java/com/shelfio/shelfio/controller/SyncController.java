@@ -0,0 +1,34 @@
+package com.shelfio.shelfio.controller;
+
+import com.shelfio.shelfio.dto.response.ApiResponse;
+import com.shelfio.shelfio.dto.response.SyncResponseDto;
+import com.shelfio.shelfio.service.SyncService;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@Validated
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<SyncResponseDto>> getChanges(
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "Cursor cannot be negative") Long since,
+            @RequestParam(required = false) Integer limit) {
+
+        log.info("Request to sync changes since cursor: {}", since);
+        SyncResponseDto changes = syncService.getChangesSince(since, limit);
+        return ResponseEntity.ok(ApiResponse.success(changes));
+    }
+}
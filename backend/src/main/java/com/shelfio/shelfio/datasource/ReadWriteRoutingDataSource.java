@@ -0,0 +1,48 @@
+package com.shelfio.shelfio.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the
+ * primary. Must be wrapped in a {@code LazyConnectionDataSourceProxy}, so the
+ * connection is only fetched once the transaction's read-only flag is known.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    public static Route currentRoute() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !isPrimaryForced()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(FORCE_PRIMARY.get());
+    }
+
+    /**
+     * Makes read-only transactions on the current thread use the primary as
+     * well, e.g. for a client that has just written and must read its own
+     * writes. Always pair with {@link #clearForcedPrimary()}.
+     */
+    public static void forcePrimary() {
+        FORCE_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void clearForcedPrimary() {
+        FORCE_PRIMARY.remove();
+    }
+}
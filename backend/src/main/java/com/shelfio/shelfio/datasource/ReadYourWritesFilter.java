@@ -0,0 +1,102 @@
+package com.shelfio.shelfio.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replica-lag guard: after a client writes, its requests use the primary for
+ * reads until the sticky window has passed. Clients are identified by the
+ * {@code X-Client-Id} header, falling back to the remote address.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private static final String BATCH_PATH = "/api/batch";
+
+    private final ReplicaRoutingProperties properties;
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    public ReadYourWritesFilter(ReplicaRoutingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+
+        String client = clientKey(request);
+        boolean write = !isRead(request);
+
+        if (!write && !recentlyWrote(client)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ReadWriteRoutingDataSource.forcePrimary();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadWriteRoutingDataSource.clearForcedPrimary();
+            if (write) {
+                recordWrite(client);
+            }
+        }
+    }
+
+    private boolean recentlyWrote(String client) {
+        Long last = lastWriteNanos.get(client);
+        if (last == null) {
+            return false;
+        }
+        if (System.nanoTime() - last > properties.getStickyWindow().toNanos()) {
+            lastWriteNanos.remove(client, last);
+            return false;
+        }
+        return true;
+    }
+
+    private void recordWrite(String client) {
+        // Recorded after the request, so the window starts once the write has committed
+        lastWriteNanos.put(client, System.nanoTime());
+        if (lastWriteNanos.size() > properties.getMaxTrackedClients()) {
+            evictExpired();
+        }
+    }
+
+    private void evictExpired() {
+        long cutoff = System.nanoTime() - properties.getStickyWindow().toNanos();
+        lastWriteNanos.values().removeIf(last -> last - cutoff < 0);
+        int excess = lastWriteNanos.size() - properties.getMaxTrackedClients();
+        if (excess <= 0) {
+            return;
+        }
+        // Still too many clients within the window: forget those that wrote longest ago, they fall
+        // back to the replica. A tenth more go, so a full map is not sorted on every write.
+        lastWriteNanos.entrySet().stream()
+                .map(Map.Entry::copyOf)
+                .sorted(Comparator.comparingLong(entry -> entry.getValue() - cutoff))
+                .limit(excess + properties.getMaxTrackedClients() / 10)
+                .forEach(entry -> lastWriteNanos.remove(entry.getKey(), entry.getValue()));
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr();
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)
+                // Batches only carry read requests
+                || "POST".equals(method) && BATCH_PATH.equals(request.getRequestURI());
+    }
+}
@@ -0,0 +1,21 @@
+package com.shelfio.shelfio.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "shelfio.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    // Route a client's reads to the primary for a while after it writes
+    private boolean readYourWrites = true;
+
+    // Should exceed the usual replica lag
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    // Beyond this many recently writing clients, those that wrote longest ago are
+    // forgotten and may read stale data from the replica within their window
+    private int maxTrackedClients = 10_000;
+}
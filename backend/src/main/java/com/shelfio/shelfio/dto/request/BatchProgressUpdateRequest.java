@@ -0,0 +1,21 @@
+package com.shelfio.shelfio.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchProgressUpdateRequest {
+
+    @NotEmpty(message = "At least one update is required")
+    @Size(max = 500, message = "At most 500 updates can be sent at once")
+    private List<@Valid @NotNull(message = "Update cannot be null") ProgressUpdateItem> updates;
+}
@@ -0,0 +1,24 @@
+package com.shelfio.shelfio.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequest {
+
+    @NotEmpty(message = "At least one request is required")
+    @Size(max = 20, message = "At most 20 requests can be sent at once")
+    private List<@Valid @NotNull(message = "Request cannot be null") BatchRequestItem> requests;
+
+    // Run all requests in one read-only snapshot: still in parallel on PostgreSQL, one after the other elsewhere
+    private boolean consistent;
+}
@@ -0,0 +1,22 @@
+package com.shelfio.shelfio.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequestItem {
+
+    // Echoed in the result so clients can match results without relying on order
+    @Size(max = 64, message = "ID cannot exceed 64 characters")
+    private String id;
+
+    @NotBlank(message = "Path is required")
+    @Pattern(regexp = "^/api/.*", message = "Path must start with /api/")
+    private String path;
+}
@@ -0,0 +1,20 @@
+package com.shelfio.shelfio.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookIdsRequest {
+
+    @NotEmpty(message = "At least one book ID is required")
+    @Size(max = 500, message = "At most 500 book IDs can be sent at once")
+    private List<@NotNull(message = "Book ID cannot be null") Long> bookIds;
+}
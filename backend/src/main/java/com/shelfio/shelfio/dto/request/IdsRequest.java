@@ -0,0 +1,20 @@
+package com.shelfio.shelfio.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdsRequest {
+
+    @NotEmpty(message = "At least one ID is required")
+    @Size(max = 500, message = "At most 500 IDs can be sent at once")
+    private List<@NotNull(message = "ID cannot be null") Long> ids;
+}
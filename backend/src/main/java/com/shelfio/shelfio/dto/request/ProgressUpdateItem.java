@@ -0,0 +1,24 @@
+package com.shelfio.shelfio.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressUpdateItem {
+
+    @NotNull(message = "Book ID is required")
+    private Long bookId;
+
+    @Min(value = 0, message = "Pages read cannot be negative")
+    private Integer pagesRead;
+
+    @Pattern(regexp = "^(Not started|Reading|Finished)$",
+            message = "Status must be one of: Not started, Reading, Finished")
+    private String status;
+}
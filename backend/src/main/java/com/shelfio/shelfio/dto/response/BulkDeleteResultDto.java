@@ -0,0 +1,16 @@
+package com.shelfio.shelfio.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteResultDto {
+
+    private int requested;
+    private int deleted;
+}
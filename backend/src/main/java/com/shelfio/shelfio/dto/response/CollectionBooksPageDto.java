@@ -0,0 +1,20 @@
+package com.shelfio.shelfio.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollectionBooksPageDto {
+
+    private Long collectionId;
+    private List<BookResponseDto> books;
+    // Pass as "after" to fetch the next page; null on the last page
+    private Long nextCursor;
+}
@@ -0,0 +1,26 @@
+package com.shelfio.shelfio.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CollectionMembershipResultDto {
+
+    private Long collectionId;
+    private int requested;
+    // Books added or removed by this call
+    private int changed;
+    // Books that were already in (or already absent from) the collection
+    private int unchanged;
+    // Only reported when adding books
+    private List<Long> notFoundBookIds;
+}
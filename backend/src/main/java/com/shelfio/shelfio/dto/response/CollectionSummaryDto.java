@@ -0,0 +1,20 @@
+package com.shelfio.shelfio.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollectionSummaryDto {
+
+    private Long id;
+    private String name;
+    private long bookCount;
+    private List<String> covers;
+}
@@ -0,0 +1,23 @@
+package com.shelfio.shelfio.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDto {
+
+    private int rank;
+    private Long bookId;
+    private String title;
+    private String author;
+    private String category;
+    private String status;
+    private String coverUrl;
+    private double averageRating;
+    private long reviewCount;
+}
@@ -0,0 +1,24 @@
+package com.shelfio.shelfio.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressBucketDto {
+
+    // First day of the day, week (Monday) or month
+    private LocalDate bucketStart;
+
+    // Net pages read; corrections that lower pages read count negative
+    private long pagesRead;
+    private int booksStarted;
+    private int booksFinished;
+    private int progressUpdates;
+}
@@ -0,0 +1,27 @@
+package com.shelfio.shelfio.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProgressUpdateResultDto {
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        INVALID
+    }
+
+    private Long bookId;
+    private Outcome outcome;
+    private Integer pagesRead;
+    private String status;
+    private String error;
+}
@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 public class ReviewResponseDto {
 
     private Long reviewId;
+    private Long bookId;
     private Integer rating;
     private String comment;
     private LocalDateTime createdAt;
@@ -0,0 +1,22 @@
+package com.shelfio.shelfio.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarBookDto {
+
+    private Long id;
+    private String title;
+    private String author;
+    private String category;
+    private String coverUrl;
+
+    // Higher is more similar; only comparable within one response
+    private Double score;
+}
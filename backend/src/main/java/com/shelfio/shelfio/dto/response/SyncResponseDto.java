@@ -0,0 +1,36 @@
+package com.shelfio.shelfio.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncResponseDto {
+
+    // Pass as "since" on the next call
+    private Long cursor;
+    private boolean hasMore;
+
+    private List<BookResponseDto> books;
+    private List<ReviewResponseDto> reviews;
+    private List<SyncCollectionDto> collections;
+
+    private Tombstones deleted;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Tombstones {
+
+        private List<Long> books;
+        private List<Long> reviews;
+        private List<Long> collections;
+    }
+}
@@ -2,17 +2,21 @@ package com.shelfio.shelfio.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 
 
 @Entity
-@Table(name = "authors")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+@Table(name = "authors", indexes = @Index(name = "idx_authors_library_name", columnList = "library_id, last_name, first_name"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Author {
+public class Author extends LibraryScopedEntity {
 
 
     @Id
@@ -2,19 +2,25 @@ package com.shelfio.shelfio.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 
 @Entity
-@Table(name = "books")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "books",
+        uniqueConstraints = @UniqueConstraint(name = "uk_books_library_isbn", columnNames = {"library_id", "isbn"}),
+        indexes = @Index(name = "idx_books_library", columnList = "library_id, book_id"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Book {
+public class Book extends LibraryScopedEntity {
 
 
     @Id
@@ -44,7 +50,7 @@ public class Book {
     private String publisher;
 
 
-    @Column(unique = true)
+    // Unique per library, see the table constraint
     private String isbn;
 
 
@@ -55,6 +61,7 @@ public class Book {
     private Integer pagesRead = 0;
 
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<Review> reviews = new ArrayList<>();
 
     private String bookcover;
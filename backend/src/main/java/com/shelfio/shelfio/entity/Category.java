@@ -2,17 +2,22 @@ package com.shelfio.shelfio.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 
 
 @Entity
-@Table(name = "categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+@Table(name = "categories",
+        uniqueConstraints = @UniqueConstraint(name = "uk_categories_library_name", columnNames = {"library_id", "name"}))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Category {
+public class Category extends LibraryScopedEntity {
 
 
     @Id
@@ -20,7 +25,7 @@ public class Category {
     private Long categoryId;
 
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String name;
 
 
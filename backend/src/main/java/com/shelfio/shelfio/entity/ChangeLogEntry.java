@@ -0,0 +1,64 @@
+package com.shelfio.shelfio.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+
+/**
+ * Append-only record of a change to a synced entity. The log position, assigned
+ * once the change has committed, is the sync cursor.
+ */
+@Entity
+@Table(name = "change_log", indexes = {
+        @Index(name = "idx_change_log_entity", columnList = "entity_type, entity_id"),
+        @Index(name = "idx_change_log_library", columnList = "library_id, log_position"),
+        @Index(name = "idx_change_log_position", columnList = "log_position, change_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeLogEntry extends LibraryScopedEntity {
+
+    public enum EntityType {
+        BOOK,
+        REVIEW,
+        COLLECTION
+    }
+
+    public enum Operation {
+        UPSERT,
+        DELETE
+    }
+
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long changeId;
+
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private EntityType entityType;
+
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Operation operation;
+
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+
+    // Null until the ChangeLogSequencer has seen the entry committed
+    @Column(name = "log_position")
+    private Long logPosition;
+}
@@ -0,0 +1,28 @@
+package com.shelfio.shelfio.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+
+/**
+ * Single row holding the last assigned change log position. Locked by each
+ * sequencer run, so runs of all instances assign positions one after another.
+ */
+@Entity
+@Table(name = "change_log_sequence")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeLogSequence {
+
+
+    @Id
+    @Column(name = "sequence_id")
+    private Integer sequenceId;
+
+
+    @Column(name = "last_position", nullable = false)
+    private Long lastPosition;
+}
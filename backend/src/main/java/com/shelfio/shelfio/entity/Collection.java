@@ -8,13 +8,13 @@ import java.util.Set;
 
 
 @Entity
-@Table(name = "collections")
+@Table(name = "collections", indexes = @Index(name = "idx_collections_library", columnList = "library_id"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Collection {
+public class Collection extends LibraryScopedEntity {
 
 
     @Id
@@ -0,0 +1,28 @@
+package com.shelfio.shelfio.entity;
+
+import com.shelfio.shelfio.tenant.LibraryScoped;
+import com.shelfio.shelfio.tenant.TenantContext;
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+
+
+/**
+ * Base of every entity that belongs to one library. Hibernate fills in the
+ * library of the current request on insert and restricts all queries to it.
+ * Rows that predate libraries belong to the default library.
+ */
+@MappedSuperclass
+@Getter
+@Setter
+public abstract class LibraryScopedEntity implements LibraryScoped {
+
+
+    @TenantId
+    @ColumnDefault("'" + TenantContext.DEFAULT_LIBRARY_ID + "'")
+    @Column(name = "library_id", nullable = false, updatable = false, length = 64)
+    private String libraryId;
+}
@@ -0,0 +1,28 @@
+package com.shelfio.shelfio.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+
+/**
+ * Version of a library's data, incremented in every transaction that changes
+ * it. Shared by all instances; cached responses are valid for one version.
+ */
+@Entity
+@Table(name = "library_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LibraryVersion {
+
+
+    @Id
+    @Column(name = "library_id", length = 64)
+    private String libraryId;
+
+
+    @Column(nullable = false)
+    private Long version;
+}
@@ -0,0 +1,51 @@
+package com.shelfio.shelfio.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+
+/**
+ * Append-only record of one reading progress update. No foreign key to the
+ * book, so the history outlives deleted books.
+ */
+@Entity
+@Table(name = "progress_events", indexes = {
+        @Index(name = "idx_progress_events_library", columnList = "library_id, occurred_at"),
+        @Index(name = "idx_progress_events_book", columnList = "book_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProgressEvent extends LibraryScopedEntity {
+
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long eventId;
+
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+
+    // Pages read after the update, and the change from before it (negative for corrections)
+    @Column(name = "pages_read", nullable = false)
+    private Integer pagesRead;
+
+
+    @Column(name = "pages_read_delta", nullable = false)
+    private Integer pagesReadDelta;
+
+
+    // New reading status, null when the update left it unchanged
+    @Column(length = 255)
+    private String status;
+
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
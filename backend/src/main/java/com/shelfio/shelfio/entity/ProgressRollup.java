@@ -0,0 +1,78 @@
+package com.shelfio.shelfio.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+
+/**
+ * Reading progress totals of one library per day, week or month, maintained
+ * incrementally as progress events are recorded.
+ */
+@Entity
+@Table(name = "progress_rollups", uniqueConstraints = @UniqueConstraint(
+        name = "uk_progress_rollups_bucket", columnNames = {"library_id", "granularity", "bucket_start"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProgressRollup extends LibraryScopedEntity {
+
+    public enum Granularity {
+        DAY,
+        WEEK,
+        MONTH;
+
+        // Weeks start on Monday (ISO-8601)
+        public LocalDate bucketStart(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+            };
+        }
+
+        public LocalDate next(LocalDate bucketStart) {
+            return switch (this) {
+                case DAY -> bucketStart.plusDays(1);
+                case WEEK -> bucketStart.plusWeeks(1);
+                case MONTH -> bucketStart.plusMonths(1);
+            };
+        }
+    }
+
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long rollupId;
+
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Granularity granularity;
+
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+
+    // Net pages read: the sum of all pages-read changes in the bucket
+    @Column(name = "pages_read", nullable = false)
+    private Long pagesRead;
+
+
+    @Column(name = "books_started", nullable = false)
+    private Integer booksStarted;
+
+
+    @Column(name = "books_finished", nullable = false)
+    private Integer booksFinished;
+
+
+    @Column(name = "progress_updates", nullable = false)
+    private Integer progressUpdates;
+}
@@ -2,6 +2,8 @@ package com.shelfio.shelfio.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -10,13 +12,15 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name = "reviews")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "reviews", indexes = @Index(name = "idx_reviews_library_book", columnList = "library_id, book_id"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Review {
+public class Review extends LibraryScopedEntity {
 
 
     @Id
@@ -0,0 +1,27 @@
+package com.shelfio.shelfio.event;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "shelfio.events")
+public class EventStreamProperties {
+
+    // Events queued per subscriber; a subscriber that falls this far behind is dropped
+    private int bufferSize = 256;
+
+    private int maxSubscribers = 1000;
+
+    // Sent as Retry-After to clients refused because maxSubscribers are connected
+    private Duration retryAfter = Duration.ofSeconds(5);
+
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    // Clients reconnect after this; EventSource does so automatically
+    private Duration timeout = Duration.ofMinutes(30);
+
+    // Threads writing events to subscribers
+    private int senderThreads = 2;
+}
@@ -0,0 +1,79 @@
+package com.shelfio.shelfio.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.shelfio.shelfio.tenant.TenantContext;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Small notification that library data changed. Carries ids only; clients
+ * reload what they display.
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LibraryChangeEvent {
+
+    public enum Type {
+        BOOK_ADDED,
+        BOOK_UPDATED,
+        BOOK_DELETED,
+        PROGRESS_CHANGED,
+        REVIEW_ADDED,
+        REVIEW_UPDATED,
+        REVIEW_DELETED,
+        COLLECTION_CREATED,
+        COLLECTION_DELETED,
+        COLLECTION_BOOKS_CHANGED
+    }
+
+    Type type;
+
+    // Ids of the changed books, reviews or collections, depending on the type
+    List<Long> ids;
+
+    // Book of a review change
+    Long bookId;
+
+    // Collection of a membership change; ids are the affected books
+    Long collectionId;
+
+    @Builder.Default
+    Instant timestamp = Instant.now();
+
+    // Library the change belongs to, taken from the publishing thread
+    @JsonIgnore
+    @Builder.Default
+    String libraryId = TenantContext.getLibraryId();
+
+    // Change held in the pages-read write-behind buffer, not yet written to the database
+    @JsonIgnore
+    boolean buffered;
+
+    public static LibraryChangeEvent of(Type type, List<Long> ids) {
+        return LibraryChangeEvent.builder()
+                .type(type)
+                .ids(List.copyOf(ids))
+                .build();
+    }
+
+    public static LibraryChangeEvent review(Type type, Long reviewId, Long bookId) {
+        return LibraryChangeEvent.builder()
+                .type(type)
+                .ids(List.of(reviewId))
+                .bookId(bookId)
+                .build();
+    }
+
+    public static LibraryChangeEvent collectionBooks(Long collectionId, List<Long> bookIds) {
+        return LibraryChangeEvent.builder()
+                .type(Type.COLLECTION_BOOKS_CHANGED)
+                .ids(List.copyOf(bookIds))
+                .collectionId(collectionId)
+                .build();
+    }
+}
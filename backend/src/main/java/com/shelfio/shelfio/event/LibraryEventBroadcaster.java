@@ -0,0 +1,186 @@
+package com.shelfio.shelfio.event;
+
+import com.shelfio.shelfio.exception.ServiceOverloadedException;
+import com.shelfio.shelfio.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed {@link LibraryChangeEvent}s out to Server-Sent Events subscribers.
+ *
+ * <p>Publishing never blocks: each subscriber has a bounded queue drained by a
+ * small sender pool, at most one drain per subscriber at a time. A subscriber
+ * whose queue is full is disconnected and has to reconnect and reload.
+ * Subscribers only receive the events of the library they subscribed in.
+ */
+@Slf4j
+public class LibraryEventBroadcaster {
+
+    private final EventStreamProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeats;
+    private final Counter droppedSubscribers;
+
+    public LibraryEventBroadcaster(EventStreamProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        AtomicInteger threads = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(properties.getSenderThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getHeartbeatInterval().toMillis();
+        heartbeats.scheduleAtFixedRate(this::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+
+        this.droppedSubscribers = meterRegistry.counter("shelfio.events.subscribers.dropped");
+        meterRegistry.gaugeCollectionSize("shelfio.events.subscribers", List.of(), subscribers);
+    }
+
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            throw new ServiceOverloadedException("Too many event stream subscribers", properties.getRetryAfter());
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, TenantContext.getLibraryId(), properties.getBufferSize());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(error -> close(subscriber));
+        subscribers.add(subscriber);
+
+        // Opens the stream right away, so the client sees the connection succeed
+        subscriber.offer(SseEmitter.event().comment("connected").build());
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Delivers after the publishing transaction commits, or immediately when
+     * there is none, so subscribers never see rolled back changes.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLibraryChange(LibraryChangeEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        // Built once and shared, the builder itself is not reusable
+        Set<DataWithMediaType> message = SseEmitter.event()
+                .id(Long.toString(sequence.incrementAndGet()))
+                .name(event.getType().name())
+                .data(event, MediaType.APPLICATION_JSON)
+                .build();
+        broadcast(message, event.getLibraryId());
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdown();
+    }
+
+    private void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            broadcast(SseEmitter.event().comment("heartbeat").build(), null);
+        }
+    }
+
+    // A null library sends to every subscriber
+    private void broadcast(Set<DataWithMediaType> message, String libraryId) {
+        for (Subscriber subscriber : subscribers) {
+            if (libraryId != null && !libraryId.equals(subscriber.libraryId)) {
+                continue;
+            }
+            if (subscriber.offer(message)) {
+                schedule(subscriber);
+            } else {
+                log.warn("Dropping slow event stream subscriber after {} queued events", properties.getBufferSize());
+                droppedSubscribers.increment();
+                close(subscriber);
+            }
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<DataWithMediaType> message;
+            while ((message = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(message);
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Client went away or the emitter already completed
+            log.debug("Event stream subscriber disconnected: {}", ex.getMessage());
+            close(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // An event may have been queued after the last poll
+        if (!subscriber.queue.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.queue.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final String libraryId;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, String libraryId, int bufferSize) {
+            this.emitter = emitter;
+            this.libraryId = libraryId;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean offer(Set<DataWithMediaType> message) {
+            return queue.offer(message);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.shelfio.shelfio.event;
+
+import com.shelfio.shelfio.tenant.TenantContext;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Published inside the transaction that adds, updates or deletes a single
+ * review, with its rating before and after the change (null when it did not
+ * exist) and the category and status of its book. Bulk review deletes only
+ * publish {@code REVIEW_DELETED}, to keep them to one statement.
+ */
+@Value
+@Builder
+public class ReviewRatingsChangedEvent {
+
+    public record RatingChange(Long bookId, String category, String status,
+                               Integer ratingBefore, Integer ratingAfter) {
+    }
+
+    List<RatingChange> changes;
+
+    @Builder.Default
+    String libraryId = TenantContext.getLibraryId();
+
+    public static ReviewRatingsChangedEvent of(List<RatingChange> changes) {
+        return ReviewRatingsChangedEvent.builder()
+                .changes(List.copyOf(changes))
+                .build();
+    }
+}
@@ -3,7 +3,9 @@ package com.shelfio.shelfio.exception;
 import com.shelfio.shelfio.dto.response.ApiResponse;
 import com.shelfio.shelfio.dto.response.ApiResponse.ErrorDetails;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -74,6 +76,23 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("External service error", error));
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceOverloaded(ServiceOverloadedException ex) {
+        log.warn("Service overloaded: {}", ex.getMessage());
+
+        ErrorDetails error = ErrorDetails.builder()
+                .code("SERVICE_OVERLOADED")
+                .details(ex.getMessage())
+                .build();
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, ex.getRetryAfter().toSeconds())))
+                // Also for clients only accepting the refused endpoint's type, e.g. text/event-stream
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.error("Service overloaded, try again later", error));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationErrors(
             MethodArgumentNotValidException ex) {
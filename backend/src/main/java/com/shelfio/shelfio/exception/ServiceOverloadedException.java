@@ -0,0 +1,20 @@
+package com.shelfio.shelfio.exception;
+
+import java.time.Duration;
+
+/**
+ * The server is at a capacity limit; the client should retry after the given delay.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,29 @@
+package com.shelfio.shelfio.leaderboard;
+
+import java.util.Comparator;
+
+public enum LeaderboardMetric {
+
+    // Highest average rating first, more reviews breaking ties
+    TOP_RATED((a, b) -> {
+        int byAverage = Standing.compareAverage(b, a);
+        return byAverage != 0 ? byAverage : Long.compare(b.reviewCount(), a.reviewCount());
+    }),
+
+    // Most reviews first, higher average rating breaking ties
+    MOST_REVIEWED((a, b) -> {
+        int byCount = Long.compare(b.reviewCount(), a.reviewCount());
+        return byCount != 0 ? byCount : Standing.compareAverage(b, a);
+    });
+
+    private final Comparator<Standing> order;
+
+    LeaderboardMetric(Comparator<Standing> order) {
+        // The book id keeps standings with equal scores distinct in the ordered sets
+        this.order = order.thenComparingLong(Standing::bookId);
+    }
+
+    Comparator<Standing> order() {
+        return order;
+    }
+}
@@ -0,0 +1,13 @@
+package com.shelfio.shelfio.leaderboard;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "shelfio.leaderboards")
+public class LeaderboardProperties {
+
+    private int defaultLimit = 10;
+
+    private int maxLimit = 100;
+}
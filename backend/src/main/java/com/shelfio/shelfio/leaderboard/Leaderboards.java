@@ -0,0 +1,238 @@
+package com.shelfio.shelfio.leaderboard;
+
+import com.shelfio.shelfio.datasource.ReadWriteRoutingDataSource;
+import com.shelfio.shelfio.event.LibraryChangeEvent;
+import com.shelfio.shelfio.event.ReviewRatingsChangedEvent;
+import com.shelfio.shelfio.event.ReviewRatingsChangedEvent.RatingChange;
+import com.shelfio.shelfio.progress.ReadingProgressEvent;
+import com.shelfio.shelfio.repository.ReviewRepository;
+import com.shelfio.shelfio.tenant.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory top-rated and most-reviewed leaderboards, one
+ * {@link LibraryLeaderboards} per library.
+ *
+ * <p>Built from the review totals at startup, then kept current from the
+ * rating changes published by the review service, reading status changes and
+ * book deletions, applied after their transactions commit. Bulk review
+ * deletes don't say which ratings they removed, so they mark the library
+ * stale and its leaderboards are rebuilt on the next read.
+ *
+ * <p>Totals are read from the primary: rating changes are applied on top of
+ * them, so they must not miss recent commits. Updates are serialized; reads are not.
+ *
+ * <p>Rating changes are in flight from their publication until their
+ * transaction completes. A rebuild cannot tell whether it read the in-flight
+ * changes of its libraries, so it marks them, and their books' totals are
+ * re-read instead of the changes being added on top.
+ */
+@Slf4j
+@Component
+public class Leaderboards {
+
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate readOnly;
+    private final TransactionTemplate readOnlyAfterCommit;
+
+    private final Map<String, LibraryLeaderboards> libraries = new ConcurrentHashMap<>();
+    private final Set<String> staleLibraries = ConcurrentHashMap.newKeySet();
+    private final Set<PendingRatings> inFlight = ConcurrentHashMap.newKeySet();
+
+    public Leaderboards(ReviewRepository reviewRepository, PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        // Re-reads run after the change's commit, while its resources are still bound
+        this.readOnlyAfterCommit = new TransactionTemplate(transactionManager);
+        this.readOnlyAfterCommit.setReadOnly(true);
+        this.readOnlyAfterCommit.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Top standings of the current library, optionally limited to a category and/or reading status.
+     */
+    public List<Standing> top(LeaderboardMetric metric, String category, String status, int limit) {
+        String libraryId = TenantContext.getLibraryId();
+        if (staleLibraries.contains(libraryId)) {
+            rebuild(libraryId);
+        }
+        LibraryLeaderboards leaderboards = libraries.get(libraryId);
+        return leaderboards == null ? List.of() : leaderboards.top(metric, category, status, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        List<Object[]> totals = readPrimary(readOnly, reviewRepository::findAllLibrariesRatingTotals);
+        inFlight.forEach(pending -> pending.reread = true);
+        Map<String, LibraryLeaderboards> rebuilt = new ConcurrentHashMap<>();
+        for (Object[] row : totals) {
+            rebuilt.computeIfAbsent((String) row[0], id -> new LibraryLeaderboards())
+                    .put(toStanding(row[1], row[2], row[3], row[4], row[5]));
+        }
+        staleLibraries.clear();
+        libraries.clear();
+        libraries.putAll(rebuilt);
+        log.info("Built leaderboards of {} libraries from {} reviewed books in {} ms",
+                rebuilt.size(), totals.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private synchronized void rebuild(String libraryId) {
+        if (!staleLibraries.remove(libraryId)) {
+            return;
+        }
+        List<Object[]> totals = TenantContext.callInLibrary(libraryId,
+                () -> readPrimary(readOnly, reviewRepository::findRatingTotals));
+        inFlight.stream()
+                .filter(pending -> pending.event.getLibraryId().equals(libraryId))
+                .forEach(pending -> pending.reread = true);
+        LibraryLeaderboards leaderboards = new LibraryLeaderboards();
+        for (Object[] row : totals) {
+            leaderboards.put(toStanding(row[0], row[1], row[2], row[3], row[4]));
+        }
+        libraries.put(libraryId, leaderboards);
+        log.debug("Rebuilt leaderboards of library {} from {} reviewed books", libraryId, totals.size());
+    }
+
+    /**
+     * Applies the rating changes once their transaction commits, right away
+     * without one. Rolled back changes are dropped.
+     */
+    @EventListener
+    public void onRatingsChanged(ReviewRatingsChangedEvent event) {
+        PendingRatings pending = new PendingRatings(event);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(pending);
+            return;
+        }
+        inFlight.add(pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    apply(pending);
+                } else {
+                    inFlight.remove(pending);
+                }
+            }
+        });
+    }
+
+    private synchronized void apply(PendingRatings pending) {
+        inFlight.remove(pending);
+        ReviewRatingsChangedEvent event = pending.event;
+        LibraryLeaderboards leaderboards =
+                libraries.computeIfAbsent(event.getLibraryId(), id -> new LibraryLeaderboards());
+        if (pending.reread) {
+            reread(event.getLibraryId(), leaderboards, event.getChanges());
+            return;
+        }
+        for (RatingChange change : event.getChanges()) {
+            long reviews = (change.ratingAfter() != null ? 1 : 0) - (change.ratingBefore() != null ? 1 : 0);
+            long ratings = valueOf(change.ratingAfter()) - valueOf(change.ratingBefore());
+            Standing current = leaderboards.standing(change.bookId());
+            leaderboards.put(current != null
+                    ? current.add(reviews, ratings)
+                    : new Standing(change.bookId(), reviews, ratings, change.category(), change.status()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onReadingProgress(ReadingProgressEvent event) {
+        LibraryLeaderboards leaderboards = libraries.get(event.getLibraryId());
+        if (leaderboards == null) {
+            return;
+        }
+        for (ReadingProgressEvent.Change change : event.getChanges()) {
+            Standing current = leaderboards.standing(change.bookId());
+            if (current != null && change.statusChanged()) {
+                leaderboards.put(current.withStatus(change.statusAfter()));
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onLibraryChange(LibraryChangeEvent event) {
+        LibraryLeaderboards leaderboards = libraries.get(event.getLibraryId());
+        switch (event.getType()) {
+            // Reviews of deleted books go with the database cascade, without rating changes
+            case BOOK_DELETED -> {
+                if (leaderboards != null) {
+                    event.getIds().forEach(leaderboards::remove);
+                }
+            }
+            case REVIEW_DELETED -> {
+                if (event.getBookId() == null) {
+                    staleLibraries.add(event.getLibraryId());
+                }
+            }
+            default -> {
+                // Single review changes arrive as rating changes
+            }
+        }
+    }
+
+    private void reread(String libraryId, LibraryLeaderboards leaderboards, List<RatingChange> changes) {
+        List<Long> bookIds = changes.stream().map(RatingChange::bookId).distinct().toList();
+        List<Object[]> totals = TenantContext.callInLibrary(libraryId,
+                () -> readPrimary(readOnlyAfterCommit, () -> reviewRepository.findRatingTotalsByBookIds(bookIds)));
+        bookIds.forEach(leaderboards::remove);
+        for (Object[] row : totals) {
+            leaderboards.put(toStanding(row[0], row[1], row[2], row[3], row[4]));
+        }
+        log.debug("Re-read leaderboard totals of {} books of library {} after a rebuild", bookIds.size(), libraryId);
+    }
+
+    // readOnly joins a surrounding read-only transaction; its connection is only fetched by the first query
+    private <T> T readPrimary(TransactionTemplate transaction, Supplier<T> query) {
+        boolean alreadyForced = ReadWriteRoutingDataSource.isPrimaryForced();
+        ReadWriteRoutingDataSource.forcePrimary();
+        try {
+            return transaction.execute(status -> query.get());
+        } finally {
+            if (!alreadyForced) {
+                ReadWriteRoutingDataSource.clearForcedPrimary();
+            }
+        }
+    }
+
+    private static Standing toStanding(Object bookId, Object category, Object status,
+                                       Object reviewCount, Object ratingSum) {
+        return new Standing(((Number) bookId).longValue(), ((Number) reviewCount).longValue(),
+                ((Number) ratingSum).longValue(), (String) category, (String) status);
+    }
+
+    private static long valueOf(Integer rating) {
+        return rating != null ? rating : 0;
+    }
+
+    // Identity, not value equality: equal changes of two transactions are tracked separately
+    private static final class PendingRatings {
+
+        private final ReviewRatingsChangedEvent event;
+
+        // Set by a rebuild that may already have read these changes
+        private volatile boolean reread;
+
+        private PendingRatings(ReviewRatingsChangedEvent event) {
+            this.event = event;
+        }
+    }
+}
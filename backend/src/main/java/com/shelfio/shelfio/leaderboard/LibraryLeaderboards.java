@@ -0,0 +1,103 @@
+package com.shelfio.shelfio.leaderboard;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Leaderboards of one library: for every scope (whole library, a category, a
+ * reading status, or both) one skip list per metric, holding the standings of
+ * the books with at least one review.
+ *
+ * <p>A book's standing is re-positioned in its at most four scopes on every
+ * change, in O(log n) each. Top-N reads walk the head of one skip list without
+ * locking. Mutations must be serialized by the caller.
+ */
+final class LibraryLeaderboards {
+
+    // Null category or status means "any"
+    private record Scope(String category, String status) {
+
+        private static Scope of(String category, String status) {
+            return new Scope(normalize(category), normalize(status));
+        }
+
+        private static String normalize(String value) {
+            return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Map<Long, Standing> standings = new ConcurrentHashMap<>();
+    private final Map<Scope, Map<LeaderboardMetric, NavigableSet<Standing>>> boards = new ConcurrentHashMap<>();
+
+    List<Standing> top(LeaderboardMetric metric, String category, String status, int limit) {
+        Map<LeaderboardMetric, NavigableSet<Standing>> board = boards.get(Scope.of(category, status));
+        if (board == null) {
+            return List.of();
+        }
+        List<Standing> top = new ArrayList<>(limit);
+        Iterator<Standing> ranked = board.get(metric).iterator();
+        while (top.size() < limit && ranked.hasNext()) {
+            top.add(ranked.next());
+        }
+        return top;
+    }
+
+    Standing standing(long bookId) {
+        return standings.get(bookId);
+    }
+
+    void put(Standing standing) {
+        remove(standing.bookId());
+        if (standing.reviewCount() <= 0) {
+            return;
+        }
+        standings.put(standing.bookId(), standing);
+        for (Scope scope : scopesOf(standing)) {
+            boards.computeIfAbsent(scope, key -> newBoard())
+                    .forEach((metric, ranked) -> ranked.add(standing));
+        }
+    }
+
+    void remove(long bookId) {
+        Standing old = standings.remove(bookId);
+        if (old == null) {
+            return;
+        }
+        for (Scope scope : scopesOf(old)) {
+            Map<LeaderboardMetric, NavigableSet<Standing>> board = boards.get(scope);
+            if (board != null) {
+                board.forEach((metric, ranked) -> ranked.remove(old));
+            }
+        }
+    }
+
+    private static List<Scope> scopesOf(Standing standing) {
+        List<Scope> scopes = new ArrayList<>(4);
+        scopes.add(Scope.of(null, null));
+        if (standing.category() != null) {
+            scopes.add(Scope.of(standing.category(), null));
+        }
+        if (standing.status() != null) {
+            scopes.add(Scope.of(null, standing.status()));
+        }
+        if (standing.category() != null && standing.status() != null) {
+            scopes.add(Scope.of(standing.category(), standing.status()));
+        }
+        return scopes;
+    }
+
+    private static Map<LeaderboardMetric, NavigableSet<Standing>> newBoard() {
+        Map<LeaderboardMetric, NavigableSet<Standing>> board = new EnumMap<>(LeaderboardMetric.class);
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            board.put(metric, new ConcurrentSkipListSet<>(metric.order()));
+        }
+        return board;
+    }
+}
@@ -0,0 +1,25 @@
+package com.shelfio.shelfio.leaderboard;
+
+/**
+ * Review totals of one book, with the category and reading status that
+ * select the scoped leaderboards it appears on.
+ */
+public record Standing(long bookId, long reviewCount, long ratingSum, String category, String status) {
+
+    public double averageRating() {
+        return reviewCount == 0 ? 0 : (double) ratingSum / reviewCount;
+    }
+
+    // Compares averages exactly, without floating point division
+    static int compareAverage(Standing a, Standing b) {
+        return Long.compare(a.ratingSum * b.reviewCount, b.ratingSum * a.reviewCount);
+    }
+
+    Standing add(long reviews, long ratings) {
+        return new Standing(bookId, reviewCount + reviews, ratingSum + ratings, category, status);
+    }
+
+    Standing withStatus(String newStatus) {
+        return new Standing(bookId, reviewCount, ratingSum, category, newStatus);
+    }
+}
@@ -0,0 +1,64 @@
+package com.shelfio.shelfio.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Puts the request id and endpoint into the MDC for every log line of a request
+ * and writes one structured summary line with the duration when it completes.
+ */
+@Slf4j
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_ENDPOINT = "endpoint";
+    public static final String MDC_DURATION = "durationMs";
+
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        long start = System.nanoTime();
+        String requestId = requestId(request);
+        MDC.put(MDC_REQUEST_ID, requestId);
+        MDC.put(MDC_ENDPOINT, request.getMethod() + " " + request.getRequestURI());
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                MDC.put(MDC_ENDPOINT, request.getMethod() + " " + pattern);
+            }
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            MDC.put(MDC_DURATION, Long.toString(durationMs));
+            log.info("{} {} -> {} in {} ms",
+                    request.getMethod(), request.getRequestURI(), response.getStatus(), durationMs);
+            MDC.remove(MDC_DURATION);
+            MDC.remove(MDC_ENDPOINT);
+            MDC.remove(MDC_REQUEST_ID);
+        }
+    }
+
+    private static String requestId(HttpServletRequest request) {
+        String header = request.getHeader(REQUEST_ID_HEADER);
+        if (header != null && !header.isBlank() && header.length() <= MAX_REQUEST_ID_LENGTH) {
+            return header;
+        }
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
@@ -0,0 +1,115 @@
+package com.shelfio.shelfio.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Samples and rate-limits log events per logger category before they are
+ * created. WARN and ERROR events always pass.
+ *
+ * <p>Rules are configured as a comma separated list of
+ * {@code category=sampleRate/maxPerSecond}, e.g.
+ * {@code com.shelfio.shelfio.controller=0.1/20}. The longest matching
+ * category prefix wins.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<String, Optional<Rule>> rulesByLogger = new ConcurrentHashMap<>();
+
+    public void setRules(String spec) {
+        rules.clear();
+        rulesByLogger.clear();
+        if (spec == null || spec.isBlank()) {
+            return;
+        }
+        for (String entry : spec.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            String[] categoryAndLimits = trimmed.split("=", 2);
+            String[] limits = categoryAndLimits[1].split("/", 2);
+            rules.add(new Rule(
+                    categoryAndLimits[0].trim(),
+                    Double.parseDouble(limits[0].trim()),
+                    limits.length > 1 ? Long.parseLong(limits[1].trim()) : Long.MAX_VALUE));
+        }
+        rules.sort(Comparator.comparingInt((Rule rule) -> rule.category.length()).reversed());
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level,
+                              String format, Object[] params, Throwable t) {
+
+        if (level == null || level.isGreaterOrEqual(Level.WARN) || rules.isEmpty()) {
+            return FilterReply.NEUTRAL;
+        }
+        // Disabled levels must stay cheap: let the regular level check reject them
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Optional<Rule> rule = rulesByLogger.computeIfAbsent(logger.getName(), this::findRule);
+        if (rule.isEmpty()) {
+            return FilterReply.NEUTRAL;
+        }
+        return rule.get().admit() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private Optional<Rule> findRule(String loggerName) {
+        return rules.stream()
+                .filter(rule -> loggerName.equals(rule.category)
+                        || loggerName.startsWith(rule.category + "."))
+                .findFirst();
+    }
+
+    private static final class Rule {
+
+        private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+        private final String category;
+        private final double sampleRate;
+        private final long maxPerSecond;
+        // Current second in the upper half, events admitted in it in the lower half,
+        // so a new second and its first count are published together
+        private final AtomicLong window = new AtomicLong();
+
+        private Rule(String category, double sampleRate, long maxPerSecond) {
+            this.category = category;
+            this.sampleRate = sampleRate;
+            // Beyond what the count half holds is as good as unlimited
+            this.maxPerSecond = maxPerSecond >= COUNT_MASK ? Long.MAX_VALUE : maxPerSecond;
+        }
+
+        private boolean admit() {
+            if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+                return false;
+            }
+            if (maxPerSecond == Long.MAX_VALUE) {
+                return true;
+            }
+            long second = (System.currentTimeMillis() / 1000) & COUNT_MASK;
+            long updated = window.updateAndGet(state -> {
+                if (state >>> 32 != second) {
+                    return second << 32 | 1;
+                }
+                // Stops counting once over the limit
+                return (state & COUNT_MASK) > maxPerSecond ? state : state + 1;
+            });
+            return (updated & COUNT_MASK) <= maxPerSecond;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.shelfio.shelfio.mapper;
 
 import com.shelfio.shelfio.dto.response.BookResponseDto;
 import com.shelfio.shelfio.dto.response.ReviewResponseDto;
+import com.shelfio.shelfio.dto.response.SimilarBookDto;
 import com.shelfio.shelfio.entity.Book;
 
 import java.util.List;
@@ -47,4 +48,19 @@ public class BookMapper {
                 .reviews(reviewDtos)
                 .build();
     }
+
+    public static SimilarBookDto toSimilarDto(Book book, double score) {
+        return SimilarBookDto.builder()
+                .id(book.getBookId())
+                .title(book.getTitle())
+                .author(
+                        book.getAuthor() != null
+                                ? book.getAuthor().getFirstName() + " " + book.getAuthor().getLastName()
+                                : null
+                )
+                .category(book.getCategory() != null ? book.getCategory().getName() : null)
+                .coverUrl(book.getBookcover())
+                .score(score)
+                .build();
+    }
 }
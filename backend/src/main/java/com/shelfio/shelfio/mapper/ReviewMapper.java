@@ -12,6 +12,7 @@ public class ReviewMapper {
     public static ReviewResponseDto toDto(Review review) {
         return ReviewResponseDto.builder()
                 .reviewId(review.getReviewId())
+                .bookId(review.getBook() != null ? review.getBook().getBookId() : null)
                 .rating(review.getRating())
                 .comment(review.getComment())
                 .createdAt(review.getCreatedAt())
@@ -0,0 +1,49 @@
+package com.shelfio.shelfio.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Hit ratio per second-level cache region ({@code shelfio.cache.hit.ratio}),
+ * plus the query cache under {@code region=query}. Hibernate's own metrics
+ * export the underlying hit and miss counters.
+ */
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            gauge(registry, region, stats -> {
+                CacheRegionStatistics regionStats = stats.getDomainDataRegionStatistics(region);
+                return regionStats == null ? Double.NaN
+                        : ratio(regionStats.getHitCount(), regionStats.getMissCount());
+            });
+        }
+        gauge(registry, "query", stats -> ratio(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount()));
+    }
+
+    private void gauge(MeterRegistry registry, String region, ToDoubleFunction<Statistics> ratio) {
+        Gauge.builder("shelfio.cache.hit.ratio", statistics, ratio)
+                .description("Share of second-level cache lookups served from the cache")
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private static double ratio(long hits, long misses) {
+        long lookups = hits + misses;
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+}
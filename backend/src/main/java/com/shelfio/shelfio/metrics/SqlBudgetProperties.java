@@ -0,0 +1,36 @@
+package com.shelfio.shelfio.metrics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "shelfio.sql-budget")
+public class SqlBudgetProperties {
+
+    private boolean enabled = true;
+
+    // Applies to every endpoint without an explicit budget
+    private int defaultMaxStatements = 50;
+
+    private List<EndpointBudget> endpoints = new ArrayList<>();
+
+    @Data
+    public static class EndpointBudget {
+
+        // "METHOD /path/pattern" as mapped by the controller, e.g. "GET /api/books/{bookId}"
+        private String endpoint;
+
+        private int maxStatements;
+    }
+
+    public int maxStatementsFor(String endpoint) {
+        return endpoints.stream()
+                .filter(budget -> budget.getEndpoint().equals(endpoint))
+                .mapToInt(EndpointBudget::getMaxStatements)
+                .findFirst()
+                .orElse(defaultMaxStatements);
+    }
+}
@@ -0,0 +1,31 @@
+package com.shelfio.shelfio.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener that feeds JDBC round trips into
+ * {@link SqlStatementRecorder}. Registered through
+ * {@code hibernate.session.events.auto}, so Hibernate creates one per session.
+ */
+public class SqlStatementListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlStatementRecorder.statementStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementRecorder.statementEnded();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        SqlStatementRecorder.statementStarted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementRecorder.statementEnded();
+    }
+}
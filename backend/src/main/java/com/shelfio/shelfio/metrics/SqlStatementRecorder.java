@@ -0,0 +1,87 @@
+package com.shelfio.shelfio.metrics;
+
+/**
+ * Thread-bound tally of SQL statements executed through Hibernate and the time
+ * spent in them. Scopes nest: statements counted in an inner scope are added to
+ * the enclosing scope when the inner one is closed.
+ */
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementRecorder() {
+        // utility class
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Adds the statements of a closed scope from another thread, such as work
+     * fanned out for the current request, to the current scope.
+     */
+    public static void include(Scope other) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.statements += other.statements;
+            scope.nanos += other.nanos;
+        }
+    }
+
+    static void statementStarted() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.startedAt = System.nanoTime();
+        }
+    }
+
+    static void statementEnded() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.statements++;
+            if (scope.startedAt != 0) {
+                scope.nanos += System.nanoTime() - scope.startedAt;
+                scope.startedAt = 0;
+            }
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private int statements;
+        private long nanos;
+        private long startedAt;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (parent != null) {
+                parent.statements += statements;
+                parent.nanos += nanos;
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
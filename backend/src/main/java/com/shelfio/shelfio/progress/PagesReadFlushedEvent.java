@@ -0,0 +1,17 @@
+package com.shelfio.shelfio.progress;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Published inside the transaction that writes buffered pages-read values,
+ * once per library.
+ */
+@Value
+public class PagesReadFlushedEvent {
+
+    String libraryId;
+
+    List<Long> bookIds;
+}
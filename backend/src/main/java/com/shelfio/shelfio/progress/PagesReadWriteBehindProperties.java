@@ -0,0 +1,19 @@
+package com.shelfio.shelfio.progress;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "shelfio.progress.write-behind")
+public class PagesReadWriteBehindProperties {
+
+    // When disabled, pages-read updates are written through as before
+    private boolean enabled = false;
+
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    // Flush early once this many books have pending updates
+    private int maxPendingBooks = 1000;
+}
@@ -0,0 +1,208 @@
+package com.shelfio.shelfio.progress;
+
+import com.shelfio.shelfio.dto.response.BookResponseDto;
+import com.shelfio.shelfio.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for pages-read updates.
+ *
+ * <p>Updates are kept per book, last write wins, and written with one batched
+ * UPDATE on every flush: periodically, once {@code maxPendingBooks} books are
+ * pending, before aggregate reads and on shutdown. Until then, book DTOs are
+ * overlaid with the pending value so reads stay consistent.
+ *
+ * <p>Each pending value remembers its library; a flush writes and reports the
+ * updates of each library separately.
+ */
+@Slf4j
+public class PagesReadWriteBuffer {
+
+    private static final String UPDATE_PAGES_READ = "UPDATE books SET pages_read = ? WHERE book_id = ? AND library_id = ?";
+
+    private final PagesReadWriteBehindProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter bufferedUpdates;
+    private final Counter flushedRows;
+
+    public PagesReadWriteBuffer(PagesReadWriteBehindProperties properties,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ApplicationEventPublisher eventPublisher,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        // Flushed rows must commit on their own, independent of the caller's transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.bufferedUpdates = meterRegistry.counter("shelfio.progress.write-behind.buffered");
+        this.flushedRows = meterRegistry.counter("shelfio.progress.write-behind.flushed");
+        meterRegistry.gaugeMapSize("shelfio.progress.write-behind.pending", List.of(), pending);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Buffers the value once the caller's transaction commits, or right away
+     * when there is none, so rolled back updates are never flushed.
+     */
+    public void record(Long bookId, int pagesRead) {
+        Pending value = new Pending(TenantContext.getLibraryId(), pagesRead);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            buffer(bookId, value);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                buffer(bookId, value);
+            }
+        });
+    }
+
+    private void buffer(Long bookId, Pending value) {
+        pending.put(bookId, value);
+        bufferedUpdates.increment();
+        if (pending.size() >= properties.getMaxPendingBooks()) {
+            flushIfIdle();
+        }
+    }
+
+    /**
+     * Drops pending values of the current library for books that were deleted
+     * or whose pages read were written directly. They are put back if the
+     * caller's transaction rolls back, unless a newer value was buffered since.
+     */
+    public void discard(Collection<Long> bookIds) {
+        String libraryId = TenantContext.getLibraryId();
+        Map<Long, Pending> discarded = new HashMap<>();
+        bookIds.forEach(bookId -> pending.computeIfPresent(bookId, (id, value) -> {
+            if (!value.libraryId().equals(libraryId)) {
+                return value;
+            }
+            discarded.put(id, value);
+            return null;
+        }));
+        // Dropped right away rather than after commit: a flush running meanwhile would
+        // otherwise write the old value over the caller's once its row locks are released
+        if (discarded.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    discarded.forEach(pending::putIfAbsent);
+                }
+            }
+        });
+    }
+
+    public Integer pendingPagesRead(Long bookId) {
+        Pending value = pending.get(bookId);
+        return value != null ? value.pagesRead() : null;
+    }
+
+    public BookResponseDto overlay(BookResponseDto book) {
+        Integer pagesRead = pendingPagesRead(book.getId());
+        if (pagesRead != null) {
+            book.setPagesRead(pagesRead);
+        }
+        return book;
+    }
+
+    public void scheduledFlush() {
+        if (!pending.isEmpty()) {
+            flushIfIdle();
+        }
+    }
+
+    /**
+     * Writes all pending updates and waits for a running flush to finish.
+     * Returns the number of rows written.
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            return doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        int flushed = flush();
+        if (flushed > 0) {
+            log.info("Flushed {} pending pages-read updates on shutdown", flushed);
+        }
+    }
+
+    private void flushIfIdle() {
+        if (flushLock.tryLock()) {
+            try {
+                doFlush();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    private int doFlush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Pending> snapshot = Map.copyOf(pending);
+        Map<String, List<Long>> bookIdsByLibrary = new LinkedHashMap<>();
+        snapshot.forEach((bookId, value) ->
+                bookIdsByLibrary.computeIfAbsent(value.libraryId(), libraryId -> new ArrayList<>()).add(bookId));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> bookIdsByLibrary.forEach((libraryId, bookIds) -> {
+                jdbcTemplate.batchUpdate(UPDATE_PAGES_READ, bookIds.stream()
+                        .map(bookId -> new Object[]{snapshot.get(bookId).pagesRead(), bookId, libraryId})
+                        .toList());
+                eventPublisher.publishEvent(new PagesReadFlushedEvent(libraryId, bookIds));
+            }));
+        } catch (RuntimeException ex) {
+            log.error("Failed to flush {} pending pages-read updates, will retry", snapshot.size(), ex);
+            return 0;
+        }
+
+        // Keep values that were overwritten while the batch was running
+        snapshot.forEach(pending::remove);
+        flushedRows.increment(snapshot.size());
+        log.debug("Flushed {} pending pages-read updates", snapshot.size());
+        return snapshot.size();
+    }
+
+    private record Pending(String libraryId, int pagesRead) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.shelfio.shelfio.progress;
+
+import com.shelfio.shelfio.tenant.TenantContext;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Published inside the transaction of a progress update, with the pages read
+ * and reading status of each book before and after it.
+ */
+@Value
+@Builder
+public class ReadingProgressEvent {
+
+    public record Change(Long bookId, int pagesReadBefore, int pagesReadAfter,
+                         String statusBefore, String statusAfter) {
+
+        public int pagesReadDelta() {
+            return pagesReadAfter - pagesReadBefore;
+        }
+
+        public boolean statusChanged() {
+            return statusAfter != null && !statusAfter.equals(statusBefore);
+        }
+
+        public boolean isEmpty() {
+            return pagesReadDelta() == 0 && !statusChanged();
+        }
+    }
+
+    List<Change> changes;
+
+    @Builder.Default
+    LocalDateTime occurredAt = LocalDateTime.now();
+
+    @Builder.Default
+    String libraryId = TenantContext.getLibraryId();
+
+    public static ReadingProgressEvent of(List<Change> changes) {
+        return ReadingProgressEvent.builder()
+                .changes(List.copyOf(changes))
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.shelfio.shelfio.progress;
+
+import com.shelfio.shelfio.entity.ProgressRollup.Granularity;
+import com.shelfio.shelfio.progress.ReadingProgressEvent.Change;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends progress events and adds them to the day, week and month rollups.
+ * Listens synchronously, so events and rollups are written in the transaction
+ * of the update itself: one batch of event rows, then one batch that creates
+ * missing rollup rows and one that increments them. Updates of a batch add up
+ * to a single increment per rollup row.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadingProgressRecorder {
+
+    private static final String STATUS_READING = "Reading";
+    private static final String STATUS_FINISHED = "Finished";
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO progress_events (library_id, book_id, pages_read, pages_read_delta, status, occurred_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ROLLUP =
+            "INSERT INTO progress_rollups "
+                    + "(library_id, granularity, bucket_start, pages_read, books_started, books_finished, progress_updates) "
+                    + "VALUES (?, ?, ?, 0, 0, 0, 0) ON CONFLICT DO NOTHING";
+
+    // Always runs after INSERT_ROLLUP, so the row exists and concurrent increments serialize on its lock
+    private static final String INCREMENT_ROLLUP =
+            "UPDATE progress_rollups SET pages_read = pages_read + ?, books_started = books_started + ?, "
+                    + "books_finished = books_finished + ?, progress_updates = progress_updates + ? "
+                    + "WHERE library_id = ? AND granularity = ? AND bucket_start = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener
+    public void onReadingProgress(ReadingProgressEvent event) {
+        List<Change> changes = event.getChanges().stream()
+                .filter(change -> !change.isEmpty())
+                .toList();
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        String libraryId = event.getLibraryId();
+        Timestamp occurredAt = Timestamp.valueOf(event.getOccurredAt());
+        jdbcTemplate.batchUpdate(INSERT_EVENT, changes.stream()
+                .map(change -> new Object[]{
+                        libraryId,
+                        change.bookId(),
+                        change.pagesReadAfter(),
+                        change.pagesReadDelta(),
+                        change.statusChanged() ? change.statusAfter() : null,
+                        occurredAt})
+                .toList());
+
+        long pagesRead = 0;
+        int booksStarted = 0;
+        int booksFinished = 0;
+        for (Change change : changes) {
+            pagesRead += change.pagesReadDelta();
+            if (change.statusChanged() && STATUS_READING.equals(change.statusAfter())) {
+                booksStarted++;
+            }
+            if (change.statusChanged() && STATUS_FINISHED.equals(change.statusAfter())) {
+                booksFinished++;
+            }
+        }
+
+        LocalDate day = event.getOccurredAt().toLocalDate();
+        List<Object[]> buckets = new ArrayList<>();
+        List<Object[]> increments = new ArrayList<>();
+        for (Granularity granularity : Granularity.values()) {
+            Date bucketStart = Date.valueOf(granularity.bucketStart(day));
+            buckets.add(new Object[]{libraryId, granularity.name(), bucketStart});
+            increments.add(new Object[]{pagesRead, booksStarted, booksFinished, changes.size(),
+                    libraryId, granularity.name(), bucketStart});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ROLLUP, buckets);
+        jdbcTemplate.batchUpdate(INCREMENT_ROLLUP, increments);
+    }
+}
@@ -0,0 +1,265 @@
+package com.shelfio.shelfio.recommendation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Similarity index of one library: the features of every book, the books grouped
+ * by author, category and collection, and the top-K neighbours of every book.
+ *
+ * <p>Groups are ordered by average rating. A book is only compared with the
+ * books closest to it in rating within each group, at most
+ * {@code maxGroupCandidates} per group, so building a row stays bounded for
+ * prolific authors and large collections. The window is symmetric: when a book
+ * changes, only the books in its windows need their rows recomputed.
+ *
+ * <p>Mutations must be serialized by the caller; lookups read the rows without locking.
+ */
+final class LibrarySimilarityIndex {
+
+    // Ratings are 1 to 5
+    private static final float MAX_RATING_DISTANCE = 4f;
+    private static final long NONE = -1L;
+
+    record BookFeatures(long bookId, long authorId, long categoryId, float rating, long[] collectionIds) {
+
+        boolean isRated() {
+            return !Float.isNaN(rating);
+        }
+
+        Member member() {
+            // Unrated books sort below every rated one
+            return new Member(isRated() ? rating : -1f, bookId);
+        }
+    }
+
+    private record Member(float ratingKey, long bookId) {
+    }
+
+    private static final Comparator<Member> BY_RATING =
+            Comparator.comparingDouble(Member::ratingKey).thenComparingLong(Member::bookId);
+
+    // Highest score first, lower book id first on ties
+    private static final Comparator<Map.Entry<Long, Double>> BEST_FIRST =
+            Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    private final SimilarBooksProperties properties;
+    private final Map<Long, BookFeatures> books = new ConcurrentHashMap<>();
+    private final Map<Long, Neighbours> rows = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableSet<Member>> byAuthor = new HashMap<>();
+    private final Map<Long, NavigableSet<Member>> byCategory = new HashMap<>();
+    private final Map<Long, NavigableSet<Member>> byCollection = new HashMap<>();
+
+    private LibrarySimilarityIndex(SimilarBooksProperties properties) {
+        this.properties = properties;
+    }
+
+    static LibrarySimilarityIndex build(Collection<BookFeatures> features, SimilarBooksProperties properties) {
+        LibrarySimilarityIndex index = new LibrarySimilarityIndex(properties);
+        for (BookFeatures book : features) {
+            index.link(book);
+        }
+        for (BookFeatures book : features) {
+            index.rows.put(book.bookId(), index.computeRow(book));
+        }
+        return index;
+    }
+
+    Neighbours neighbours(long bookId) {
+        return rows.get(bookId);
+    }
+
+    boolean contains(long bookId) {
+        return books.containsKey(bookId);
+    }
+
+    int size() {
+        return books.size();
+    }
+
+    /**
+     * Applies changed and removed books and removed collections, then recomputes
+     * the rows of every book whose candidate windows changed.
+     */
+    void apply(Collection<BookFeatures> changed, Collection<Long> removedBooks, Collection<Long> removedCollections) {
+        Set<Long> affected = new HashSet<>();
+
+        for (Long collectionId : removedCollections) {
+            NavigableSet<Member> members = byCollection.remove(collectionId);
+            if (members == null) {
+                continue;
+            }
+            for (Member member : members) {
+                BookFeatures book = books.get(member.bookId());
+                books.put(book.bookId(), new BookFeatures(book.bookId(), book.authorId(), book.categoryId(),
+                        book.rating(), Arrays.stream(book.collectionIds())
+                        .filter(id -> id != collectionId).toArray()));
+                affected.add(book.bookId());
+            }
+        }
+
+        for (Long bookId : removedBooks) {
+            BookFeatures old = books.get(bookId);
+            if (old != null) {
+                collectWindowMates(old, affected);
+                unlink(old);
+            }
+            rows.remove(bookId);
+        }
+
+        for (BookFeatures book : changed) {
+            BookFeatures old = books.get(book.bookId());
+            if (old != null) {
+                collectWindowMates(old, affected);
+                unlink(old);
+            }
+            link(book);
+            collectWindowMates(book, affected);
+            affected.add(book.bookId());
+        }
+
+        for (Long bookId : affected) {
+            BookFeatures book = books.get(bookId);
+            if (book != null) {
+                rows.put(bookId, computeRow(book));
+            }
+        }
+    }
+
+    private void link(BookFeatures book) {
+        books.put(book.bookId(), book);
+        Member member = book.member();
+        if (book.authorId() != NONE) {
+            byAuthor.computeIfAbsent(book.authorId(), id -> new TreeSet<>(BY_RATING)).add(member);
+        }
+        if (book.categoryId() != NONE) {
+            byCategory.computeIfAbsent(book.categoryId(), id -> new TreeSet<>(BY_RATING)).add(member);
+        }
+        for (long collectionId : book.collectionIds()) {
+            byCollection.computeIfAbsent(collectionId, id -> new TreeSet<>(BY_RATING)).add(member);
+        }
+    }
+
+    private void unlink(BookFeatures book) {
+        books.remove(book.bookId());
+        Member member = book.member();
+        remove(byAuthor, book.authorId(), member);
+        remove(byCategory, book.categoryId(), member);
+        for (long collectionId : book.collectionIds()) {
+            remove(byCollection, collectionId, member);
+        }
+    }
+
+    private static void remove(Map<Long, NavigableSet<Member>> groups, long key, Member member) {
+        NavigableSet<Member> group = groups.get(key);
+        if (group != null && group.remove(member) && group.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    private void collectWindowMates(BookFeatures book, Set<Long> into) {
+        for (NavigableSet<Member> group : groupsOf(book)) {
+            for (Member member : window(group, book.member())) {
+                into.add(member.bookId());
+            }
+        }
+    }
+
+    private List<NavigableSet<Member>> groupsOf(BookFeatures book) {
+        List<NavigableSet<Member>> groups = new ArrayList<>(2 + book.collectionIds().length);
+        addGroup(groups, byAuthor, book.authorId());
+        addGroup(groups, byCategory, book.categoryId());
+        for (long collectionId : book.collectionIds()) {
+            addGroup(groups, byCollection, collectionId);
+        }
+        return groups;
+    }
+
+    private static void addGroup(List<NavigableSet<Member>> groups, Map<Long, NavigableSet<Member>> byKey, long key) {
+        NavigableSet<Member> group = byKey.get(key);
+        if (group != null) {
+            groups.add(group);
+        }
+    }
+
+    /**
+     * The members of {@code group} within {@code maxGroupCandidates / 2} positions
+     * of {@code center}, excluding the center itself.
+     */
+    private List<Member> window(NavigableSet<Member> group, Member center) {
+        int half = Math.max(1, properties.getMaxGroupCandidates() / 2);
+        List<Member> members = new ArrayList<>(Math.min(group.size(), 2 * half));
+        take(group.headSet(center, false).descendingIterator(), half, members);
+        take(group.tailSet(center, false).iterator(), half, members);
+        return members;
+    }
+
+    private static void take(Iterator<Member> members, int limit, List<Member> into) {
+        for (int i = 0; i < limit && members.hasNext(); i++) {
+            into.add(members.next());
+        }
+    }
+
+    private Neighbours computeRow(BookFeatures book) {
+        Map<Long, Double> scores = new HashMap<>();
+        addScores(scores, byAuthor.get(book.authorId()), book, properties.getAuthorWeight());
+        addScores(scores, byCategory.get(book.categoryId()), book, properties.getCategoryWeight());
+        for (long collectionId : book.collectionIds()) {
+            addScores(scores, byCollection.get(collectionId), book, properties.getCollectionWeight());
+        }
+        if (book.isRated()) {
+            scores.replaceAll((candidateId, score) -> {
+                BookFeatures candidate = books.get(candidateId);
+                if (candidate == null || !candidate.isRated()) {
+                    return score;
+                }
+                float distance = Math.abs(book.rating() - candidate.rating());
+                return score + properties.getRatingWeight() * (1 - distance / MAX_RATING_DISTANCE);
+            });
+        }
+        return topK(scores, properties.getTopK());
+    }
+
+    private void addScores(Map<Long, Double> scores, NavigableSet<Member> group, BookFeatures book, double weight) {
+        if (group == null) {
+            return;
+        }
+        for (Member member : window(group, book.member())) {
+            scores.merge(member.bookId(), weight, Double::sum);
+        }
+    }
+
+    private static Neighbours topK(Map<Long, Double> scores, int k) {
+        if (scores.isEmpty()) {
+            return Neighbours.NONE;
+        }
+        PriorityQueue<Map.Entry<Long, Double>> best = new PriorityQueue<>(k + 1, BEST_FIRST.reversed());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            best.add(entry);
+            if (best.size() > k) {
+                best.poll();
+            }
+        }
+        int size = best.size();
+        long[] bookIds = new long[size];
+        float[] values = new float[size];
+        for (int i = size - 1; i >= 0; i--) {
+            Map.Entry<Long, Double> entry = best.poll();
+            bookIds[i] = entry.getKey();
+            values[i] = entry.getValue().floatValue();
+        }
+        return new Neighbours(bookIds, values);
+    }
+}
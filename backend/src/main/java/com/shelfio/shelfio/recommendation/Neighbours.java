@@ -0,0 +1,14 @@
+package com.shelfio.shelfio.recommendation;
+
+/**
+ * Precomputed neighbours of one book, best first. Kept as primitive arrays so
+ * an index of many books stays compact.
+ */
+public record Neighbours(long[] bookIds, float[] scores) {
+
+    public static final Neighbours NONE = new Neighbours(new long[0], new float[0]);
+
+    public int size() {
+        return bookIds.length;
+    }
+}
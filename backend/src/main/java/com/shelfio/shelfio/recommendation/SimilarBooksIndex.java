@@ -0,0 +1,259 @@
+package com.shelfio.shelfio.recommendation;
+
+import com.shelfio.shelfio.datasource.ReadWriteRoutingDataSource;
+import com.shelfio.shelfio.event.LibraryChangeEvent;
+import com.shelfio.shelfio.recommendation.LibrarySimilarityIndex.BookFeatures;
+import com.shelfio.shelfio.repository.BookRepository;
+import com.shelfio.shelfio.repository.CollectionRepository;
+import com.shelfio.shelfio.tenant.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * In-memory similar-books index, one {@link LibrarySimilarityIndex} per library.
+ *
+ * <p>Lookups only read precomputed rows. Committed book, review and collection
+ * changes are queued per library and applied in the background by
+ * {@link #refresh()}, which reloads the features of the changed books only.
+ * {@link #rebuildAll()} periodically rebuilds every library from the database.
+ * A library that has not been indexed yet is built on its first lookup.
+ */
+@Slf4j
+public class SimilarBooksIndex {
+
+    // Keeps IN lists of the incremental feature queries well below driver limits
+    private static final int LOAD_CHUNK_SIZE = 500;
+
+    private final SimilarBooksProperties properties;
+    private final BookRepository bookRepository;
+    private final CollectionRepository collectionRepository;
+    private final TransactionTemplate readOnly;
+    private final Timer rebuildTimer;
+
+    private final Map<String, LibrarySimilarityIndex> libraries = new ConcurrentHashMap<>();
+    private final Map<String, Object> libraryLocks = new ConcurrentHashMap<>();
+    private final Map<String, PendingChanges> pending = new ConcurrentHashMap<>();
+
+    public SimilarBooksIndex(SimilarBooksProperties properties,
+                             BookRepository bookRepository,
+                             CollectionRepository collectionRepository,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.bookRepository = bookRepository;
+        this.collectionRepository = collectionRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        // Lookups run inside the caller's read-only transaction, which may already hold a replica connection
+        this.readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildTimer = meterRegistry.timer("shelfio.similar-books.rebuild");
+        meterRegistry.gauge("shelfio.similar-books.indexed", libraries,
+                indexes -> indexes.values().stream().mapToInt(LibrarySimilarityIndex::size).sum());
+    }
+
+    /**
+     * Neighbours of a book in the current library, best first. Books deleted
+     * since the last refresh are left out.
+     */
+    public Neighbours neighbours(long bookId, int limit) {
+        String libraryId = TenantContext.getLibraryId();
+        LibrarySimilarityIndex index = libraries.get(libraryId);
+        if (index == null) {
+            index = rebuild(libraryId);
+        }
+        Neighbours row = index.neighbours(bookId);
+        if (row == null) {
+            return Neighbours.NONE;
+        }
+
+        int size = Math.min(limit, row.size());
+        long[] bookIds = new long[size];
+        float[] scores = new float[size];
+        int count = 0;
+        for (int i = 0; i < row.size() && count < size; i++) {
+            if (index.contains(row.bookIds()[i])) {
+                bookIds[count] = row.bookIds()[i];
+                scores[count++] = row.scores()[i];
+            }
+        }
+        return count == size ? new Neighbours(bookIds, scores)
+                : new Neighbours(Arrays.copyOf(bookIds, count), Arrays.copyOf(scores, count));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLibraryChange(LibraryChangeEvent event) {
+        switch (event.getType()) {
+            case BOOK_ADDED, BOOK_UPDATED, COLLECTION_BOOKS_CHANGED ->
+                    record(event.getLibraryId(), changes -> changes.books.addAll(event.getIds()));
+            case BOOK_DELETED ->
+                    record(event.getLibraryId(), changes -> changes.removedBooks.addAll(event.getIds()));
+            case COLLECTION_DELETED ->
+                    record(event.getLibraryId(), changes -> changes.removedCollections.addAll(event.getIds()));
+            case REVIEW_ADDED, REVIEW_UPDATED, REVIEW_DELETED -> record(event.getLibraryId(), changes -> {
+                // Bulk review deletes don't say which books they touched
+                if (event.getBookId() != null) {
+                    changes.books.add(event.getBookId());
+                } else {
+                    changes.rebuild = true;
+                }
+            });
+            default -> {
+                // Progress and new empty collections don't affect similarity
+            }
+        }
+    }
+
+    /**
+     * Applies the queued changes of every library.
+     */
+    public void refresh() {
+        for (String libraryId : List.copyOf(pending.keySet())) {
+            synchronized (lockFor(libraryId)) {
+                PendingChanges changes = pending.remove(libraryId);
+                LibrarySimilarityIndex index = libraries.get(libraryId);
+                if (changes == null || index == null) {
+                    // Not indexed yet; the first lookup builds it from the database
+                    continue;
+                }
+                if (changes.rebuild) {
+                    rebuild(libraryId);
+                    continue;
+                }
+                try {
+                    apply(libraryId, index, changes);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to refresh similar books of library {}, rebuilding it", libraryId, e);
+                    libraries.remove(libraryId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds every library that has books, and drops the indexes of libraries that have none left.
+     */
+    public void rebuildAll() {
+        Set<String> libraryIds = new HashSet<>(readOnly.execute(status -> bookRepository.findLibraryIds()));
+        for (String libraryId : libraryIds) {
+            rebuild(libraryId);
+        }
+        libraries.keySet().retainAll(libraryIds);
+    }
+
+    private LibrarySimilarityIndex rebuild(String libraryId) {
+        synchronized (lockFor(libraryId)) {
+            // Changes committed from here on are applied by the next refresh
+            pending.remove(libraryId);
+            long start = System.nanoTime();
+            // Read the primary: changes dropped from pending above must be in what is read
+            // (lookups may run on a request thread that already forces it)
+            List<BookFeatures> features;
+            boolean primaryForced = ReadWriteRoutingDataSource.isPrimaryForced();
+            ReadWriteRoutingDataSource.forcePrimary();
+            try {
+                features = TenantContext.callInLibrary(libraryId,
+                        () -> readOnly.execute(status -> toFeatures(
+                                bookRepository.findSimilarityFeatures(),
+                                collectionRepository.findMemberships())));
+            } finally {
+                if (!primaryForced) {
+                    ReadWriteRoutingDataSource.clearForcedPrimary();
+                }
+            }
+            LibrarySimilarityIndex index = LibrarySimilarityIndex.build(features, properties);
+            libraries.put(libraryId, index);
+            long elapsed = System.nanoTime() - start;
+            rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            log.debug("Built similar books of library {}: {} books in {} ms",
+                    libraryId, index.size(), elapsed / 1_000_000);
+            return index;
+        }
+    }
+
+    private void apply(String libraryId, LibrarySimilarityIndex index, PendingChanges changes) {
+        Set<Long> reload = new HashSet<>(changes.books);
+        reload.removeAll(changes.removedBooks);
+
+        List<BookFeatures> changed = new ArrayList<>(reload.size());
+        List<Long> ids = List.copyOf(reload);
+        // Read the primary: a replica may not have the just committed changes yet
+        ReadWriteRoutingDataSource.forcePrimary();
+        try {
+            for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + LOAD_CHUNK_SIZE));
+                changed.addAll(TenantContext.callInLibrary(libraryId,
+                        () -> readOnly.execute(status -> toFeatures(
+                                bookRepository.findSimilarityFeaturesByIds(chunk),
+                                collectionRepository.findMembershipsByBookIds(chunk)))));
+            }
+        } finally {
+            ReadWriteRoutingDataSource.clearForcedPrimary();
+        }
+
+        // Changed books that are gone by now were deleted after the change
+        Set<Long> removed = new HashSet<>(changes.removedBooks);
+        removed.addAll(reload);
+        changed.forEach(book -> removed.remove(book.bookId()));
+
+        index.apply(changed, removed, changes.removedCollections);
+        log.debug("Refreshed similar books of library {}: {} changed, {} removed",
+                libraryId, changed.size(), removed.size());
+    }
+
+    private static List<BookFeatures> toFeatures(List<Object[]> books, List<Object[]> memberships) {
+        Map<Long, List<Long>> collectionsByBook = new HashMap<>();
+        for (Object[] row : memberships) {
+            collectionsByBook.computeIfAbsent((Long) row[1], id -> new ArrayList<>()).add((Long) row[0]);
+        }
+        List<BookFeatures> features = new ArrayList<>(books.size());
+        for (Object[] row : books) {
+            Long bookId = (Long) row[0];
+            features.add(new BookFeatures(
+                    bookId,
+                    row[1] != null ? (Long) row[1] : -1L,
+                    row[2] != null ? (Long) row[2] : -1L,
+                    row[3] != null ? ((Number) row[3]).floatValue() : Float.NaN,
+                    collectionsByBook.getOrDefault(bookId, List.of()).stream()
+                            .mapToLong(Long::longValue).toArray()));
+        }
+        return features;
+    }
+
+    private void record(String libraryId, Consumer<PendingChanges> change) {
+        pending.compute(libraryId, (id, changes) -> {
+            PendingChanges updated = changes != null ? changes : new PendingChanges();
+            change.accept(updated);
+            return updated;
+        });
+    }
+
+    private Object lockFor(String libraryId) {
+        return libraryLocks.computeIfAbsent(libraryId, id -> new Object());
+    }
+
+    private static final class PendingChanges {
+
+        private final Set<Long> books = new HashSet<>();
+        private final Set<Long> removedBooks = new HashSet<>();
+        private final Set<Long> removedCollections = new HashSet<>();
+        private boolean rebuild;
+    }
+}
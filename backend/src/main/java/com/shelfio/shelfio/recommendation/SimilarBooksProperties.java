@@ -0,0 +1,34 @@
+package com.shelfio.shelfio.recommendation;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "shelfio.similar-books")
+public class SimilarBooksProperties {
+
+    // Neighbours kept per book, and the most a request can ask for
+    private int topK = 10;
+
+    // Books compared per shared author, category or collection. Larger groups
+    // only compare books with the closest average rating.
+    private int maxGroupCandidates = 64;
+
+    // How often changed books are applied to the index
+    private Duration refreshInterval = Duration.ofSeconds(2);
+
+    // Rebuilds every library from scratch, picking up changes made outside the application
+    private Duration fullRebuildInterval = Duration.ofHours(1);
+
+    private double authorWeight = 3.0;
+
+    private double categoryWeight = 1.0;
+
+    // Per shared collection
+    private double collectionWeight = 2.0;
+
+    // Scaled by how close the two average ratings are; unrated books get no rating score
+    private double ratingWeight = 1.0;
+}
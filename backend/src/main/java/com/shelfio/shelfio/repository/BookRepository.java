@@ -1,9 +1,15 @@
 package com.shelfio.shelfio.repository;
 
 import com.shelfio.shelfio.entity.Book;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,9 +29,49 @@ public interface BookRepository extends JpaRepository<Book, Long> {
 
     List<Book> findByCategory_NameIgnoreCase(String categoryName);
 
+    // Row-locked loads for updates: every column is written back, so concurrent writes
+    // of the row (e.g. write-behind flushes of pages_read) wait until this one commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Book b WHERE b.bookId = :bookId")
+    Optional<Book> findByIdForUpdate(Long bookId);
+
+    // Locks in id order, so concurrent batches over the same books do not deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Book b WHERE b.bookId IN :bookIds ORDER BY b.bookId")
+    List<Book> findAllByIdForUpdate(Collection<Long> bookIds);
+
     @Query("SELECT COALESCE(SUM(b.pagesRead), 0) FROM Book b")
     Integer getTotalPagesRead();
 
+    @Query("SELECT b.bookId FROM Book b WHERE b.bookId IN :bookIds")
+    List<Long> findExistingIds(Collection<Long> bookIds);
+
+    // Reviews go with the DB-level ON DELETE CASCADE; collection links must be removed first
+    @Modifying
+    @Query("DELETE FROM Book b WHERE b.bookId IN :bookIds")
+    int deleteByIds(Collection<Long> bookIds);
+
+    // Keyset page of a collection's books, ordered by book ID
+    @EntityGraph(attributePaths = {"author", "category", "readingStatus"})
+    @Query("SELECT b FROM Book b WHERE b.bookId > :afterBookId AND EXISTS ("
+            + "SELECT 1 FROM Collection c JOIN c.books cb "
+            + "WHERE c.collectionId = :collectionId AND cb = b) "
+            + "ORDER BY b.bookId")
+    List<Book> findCollectionPage(Long collectionId, Long afterBookId, Pageable pageable);
+
+    // Similar-books features: book id, author id, category id and average rating (null when unrated)
+    @Query("SELECT b.bookId, b.author.authorId, b.category.categoryId, "
+            + "(SELECT AVG(r.rating) FROM Review r WHERE r.book = b) FROM Book b")
+    List<Object[]> findSimilarityFeatures();
+
+    @Query("SELECT b.bookId, b.author.authorId, b.category.categoryId, "
+            + "(SELECT AVG(r.rating) FROM Review r WHERE r.book = b) FROM Book b WHERE b.bookId IN :bookIds")
+    List<Object[]> findSimilarityFeaturesByIds(Collection<Long> bookIds);
+
+    // Libraries that have books, across all tenants
+    @Query(value = "SELECT DISTINCT library_id FROM books", nativeQuery = true)
+    List<String> findLibraryIds();
+
     // Get latest book (most recently added)
     Optional<Book> findFirstByOrderByBookIdDesc();
 
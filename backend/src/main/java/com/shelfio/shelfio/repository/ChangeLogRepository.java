@@ -0,0 +1,14 @@
+package com.shelfio.shelfio.repository;
+
+import com.shelfio.shelfio.entity.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    // Sequenced entries after the cursor; entries without a position are not visible yet
+    List<ChangeLogEntry> findByLogPositionGreaterThanOrderByLogPosition(Long afterPosition, Pageable pageable);
+}
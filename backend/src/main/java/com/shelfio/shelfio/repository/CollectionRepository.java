@@ -1,10 +1,83 @@
 package com.shelfio.shelfio.repository;
 
 import com.shelfio.shelfio.entity.Collection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 
 public interface CollectionRepository extends JpaRepository<Collection, Long> {
+
+    // Hibernate only tenant-filters entity queries; native queries restrict to the library themselves
+    String CURRENT_LIBRARY = ":#{T(com.shelfio.shelfio.tenant.TenantContext).getLibraryId()}";
+
     boolean existsByNameIgnoreCase(String name);
 
+    // Membership is changed directly on the join table, without loading the collection's books.
+    // Only existing books of the current library are inserted; ON CONFLICT covers concurrent
+    // adds of the same book.
+    // The native spaces hint limits second-level cache invalidation to the join table,
+    // instead of Hibernate clearing every region after a native update.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "collection_books"))
+    @Query(value = "INSERT INTO collection_books (collection_id, book_id) "
+            + "SELECT :collectionId, b.book_id FROM books b "
+            + "WHERE b.library_id = " + CURRENT_LIBRARY + " AND b.book_id IN (:bookIds) "
+            + "AND NOT EXISTS (SELECT 1 FROM collection_books cb "
+            + "WHERE cb.collection_id = :collectionId AND cb.book_id = b.book_id) "
+            + "ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int addBooks(@Param("collectionId") Long collectionId,
+                 @Param("bookIds") java.util.Collection<Long> bookIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "collection_books"))
+    @Query(value = "DELETE FROM collection_books "
+            + "WHERE collection_id = :collectionId AND book_id IN (:bookIds)",
+            nativeQuery = true)
+    int removeBooks(@Param("collectionId") Long collectionId,
+                    @Param("bookIds") java.util.Collection<Long> bookIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "collection_books"))
+    @Query(value = "DELETE FROM collection_books WHERE book_id IN (:bookIds) "
+            + "AND collection_id IN (SELECT c.collection_id FROM collections c "
+            + "WHERE c.library_id = " + CURRENT_LIBRARY + ")",
+            nativeQuery = true)
+    int removeBooksFromAllCollections(@Param("bookIds") java.util.Collection<Long> bookIds);
+
+    // Hibernate removes the collection_books rows of the deleted collections itself
+    @Modifying
+    @Query("DELETE FROM Collection c WHERE c.collectionId IN :collectionIds")
+    int deleteByIds(@Param("collectionIds") java.util.Collection<Long> collectionIds);
+
+    // One row per (collection, cover): id, name, book count, cover URL (null for empty collections).
+    // Covers are ranked most recently added first, books without a cover last.
+    @Query(value = "SELECT s.collection_id, s.name, s.book_count, s.bookcover FROM ("
+            + "SELECT c.collection_id, c.name, b.bookcover, "
+            + "COUNT(cb.book_id) OVER (PARTITION BY c.collection_id) AS book_count, "
+            + "ROW_NUMBER() OVER (PARTITION BY c.collection_id "
+            + "ORDER BY CASE WHEN b.bookcover IS NULL THEN 1 ELSE 0 END, b.book_id DESC) AS cover_rank "
+            + "FROM collections c "
+            + "LEFT JOIN collection_books cb ON cb.collection_id = c.collection_id "
+            + "LEFT JOIN books b ON b.book_id = cb.book_id AND b.library_id = c.library_id "
+            + "WHERE c.library_id = " + CURRENT_LIBRARY
+            + ") s "
+            + "WHERE s.cover_rank <= :covers "
+            + "ORDER BY s.collection_id, s.cover_rank",
+            nativeQuery = true)
+    List<Object[]> findSummaries(@Param("covers") int covers);
+
+    // Similar-books features: (collection id, book id) pairs
+    @Query("SELECT c.collectionId, b.bookId FROM Collection c JOIN c.books b")
+    List<Object[]> findMemberships();
+
+    @Query("SELECT c.collectionId, b.bookId FROM Collection c JOIN c.books b WHERE b.bookId IN :bookIds")
+    List<Object[]> findMembershipsByBookIds(@Param("bookIds") java.util.Collection<Long> bookIds);
 }
@@ -0,0 +1,15 @@
+package com.shelfio.shelfio.repository;
+
+import com.shelfio.shelfio.entity.ProgressRollup;
+import com.shelfio.shelfio.entity.ProgressRollup.Granularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+
+public interface ProgressRollupRepository extends JpaRepository<ProgressRollup, Long> {
+
+    List<ProgressRollup> findByGranularityAndBucketStartBetweenOrderByBucketStart(
+            Granularity granularity, LocalDate from, LocalDate to);
+}
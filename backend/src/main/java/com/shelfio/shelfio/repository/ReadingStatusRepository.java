@@ -1,12 +1,16 @@
 package com.shelfio.shelfio.repository;
 
 import com.shelfio.shelfio.entity.ReadingStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.Optional;
 
 
 public interface ReadingStatusRepository extends JpaRepository<ReadingStatus, Long> {
 
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ReadingStatus> findByStatus(String status);
 }
@@ -2,7 +2,10 @@ package com.shelfio.shelfio.repository;
 
 import com.shelfio.shelfio.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -10,4 +13,30 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
 
     List<Review> findByBook_BookId(Long bookId);
+
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.reviewId IN :reviewIds")
+    int deleteByIds(Collection<Long> reviewIds);
+
+    // Leaderboard totals of the current library's reviewed books:
+    // book id, category, status, review count, rating sum
+    @Query("SELECT b.bookId, c.name, s.status, COUNT(r), SUM(r.rating) FROM Review r JOIN r.book b "
+            + "LEFT JOIN b.category c LEFT JOIN b.readingStatus s GROUP BY b.bookId, c.name, s.status")
+    List<Object[]> findRatingTotals();
+
+    @Query("SELECT b.bookId, c.name, s.status, COUNT(r), SUM(r.rating) FROM Review r JOIN r.book b "
+            + "LEFT JOIN b.category c LEFT JOIN b.readingStatus s WHERE b.bookId IN :bookIds "
+            + "GROUP BY b.bookId, c.name, s.status")
+    List<Object[]> findRatingTotalsByBookIds(Collection<Long> bookIds);
+
+    // Leaderboard totals of every reviewed book, across all libraries:
+    // library id, book id, category, status, review count, rating sum
+    @Query(value = "SELECT b.library_id, b.book_id, c.name, s.status, COUNT(*), SUM(r.rating) "
+            + "FROM reviews r "
+            + "JOIN books b ON b.library_id = r.library_id AND b.book_id = r.book_id "
+            + "LEFT JOIN categories c ON c.category_id = b.category_id "
+            + "LEFT JOIN reading_status s ON s.reading_status_id = b.reading_status_id "
+            + "GROUP BY b.library_id, b.book_id, c.name, s.status",
+            nativeQuery = true)
+    List<Object[]> findAllLibrariesRatingTotals();
 }
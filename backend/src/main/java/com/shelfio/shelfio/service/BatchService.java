@@ -0,0 +1,15 @@
+package com.shelfio.shelfio.service;
+
+import com.shelfio.shelfio.dto.request.BatchRequestItem;
+import com.shelfio.shelfio.dto.response.BatchResultDto;
+
+import java.util.List;
+
+public interface BatchService {
+
+    /**
+     * Runs read requests and returns one result per request, in request order.
+     * Failed requests yield their error response; they do not fail the batch.
+     */
+    List<BatchResultDto> execute(List<BatchRequestItem> requests, boolean consistent);
+}
@@ -1,6 +1,9 @@
 package com.shelfio.shelfio.service;
 
+import com.shelfio.shelfio.dto.request.ProgressUpdateItem;
 import com.shelfio.shelfio.dto.response.BookResponseDto;
+import com.shelfio.shelfio.dto.response.BulkDeleteResultDto;
+import com.shelfio.shelfio.dto.response.ProgressUpdateResultDto;
 import java.util.List;
 
 public interface BookService {
@@ -9,6 +12,8 @@ public interface BookService {
 
     void deleteBook(Long bookId);
 
+    BulkDeleteResultDto deleteBooks(List<Long> bookIds);
+
     BookResponseDto updateReadingStatus(Long bookId, String status);
 
     BookResponseDto addReview(Long bookId, Integer rating, String comment);
@@ -21,6 +26,8 @@ public interface BookService {
 
     BookResponseDto updatePagesRead(Long bookId, Integer pagesRead);
 
+    List<ProgressUpdateResultDto> updateProgress(List<ProgressUpdateItem> updates);
+
     BookResponseDto getLatestBook();
 
     List<BookResponseDto> getLastThreeBooks();
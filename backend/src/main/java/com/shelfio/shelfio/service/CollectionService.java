@@ -1,6 +1,10 @@
 package com.shelfio.shelfio.service;
 
+import com.shelfio.shelfio.dto.response.BulkDeleteResultDto;
+import com.shelfio.shelfio.dto.response.CollectionBooksPageDto;
+import com.shelfio.shelfio.dto.response.CollectionMembershipResultDto;
 import com.shelfio.shelfio.dto.response.CollectionResponseDto;
+import com.shelfio.shelfio.dto.response.CollectionSummaryDto;
 import java.util.List;
 
 public interface CollectionService {
@@ -11,9 +15,19 @@ public interface CollectionService {
 
     CollectionResponseDto getCollectionById(Long id);
 
+    List<CollectionSummaryDto> getCollectionSummaries(int covers);
+
+    CollectionBooksPageDto getCollectionBooks(Long collectionId, Long afterBookId, int limit);
+
     void addBookToCollection(Long collectionId, Long bookId);
 
     void removeBookFromCollection(Long collectionId, Long bookId);
 
+    CollectionMembershipResultDto addBooksToCollection(Long collectionId, List<Long> bookIds);
+
+    CollectionMembershipResultDto removeBooksFromCollection(Long collectionId, List<Long> bookIds);
+
     void deleteCollection(Long id);
+
+    BulkDeleteResultDto deleteCollections(List<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.shelfio.shelfio.service;
+
+import com.shelfio.shelfio.dto.response.LeaderboardEntryDto;
+import com.shelfio.shelfio.leaderboard.LeaderboardMetric;
+
+import java.util.List;
+
+public interface LeaderboardService {
+
+    List<LeaderboardEntryDto> getLeaderboard(LeaderboardMetric metric, String category, String status, Integer limit);
+}
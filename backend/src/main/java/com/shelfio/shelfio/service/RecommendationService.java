@@ -0,0 +1,10 @@
+package com.shelfio.shelfio.service;
+
+import com.shelfio.shelfio.dto.response.SimilarBookDto;
+
+import java.util.List;
+
+public interface RecommendationService {
+
+    List<SimilarBookDto> getSimilarBooks(Long bookId, Integer limit);
+}
@@ -1,5 +1,6 @@
 package com.shelfio.shelfio.service;
 
+import com.shelfio.shelfio.dto.response.BulkDeleteResultDto;
 import com.shelfio.shelfio.dto.response.ReviewResponseDto;
 
 import java.util.List;
@@ -12,6 +13,8 @@ public interface ReviewService {
 
     void deleteReview(Long reviewId);
 
+    BulkDeleteResultDto deleteReviews(List<Long> reviewIds);
+
     ReviewResponseDto getReviewById(Long reviewId);
 
     List<ReviewResponseDto> getReviewsByBookId(Long bookId);
@@ -0,0 +1,12 @@
+package com.shelfio.shelfio.service;
+
+import com.shelfio.shelfio.dto.response.ProgressBucketDto;
+import com.shelfio.shelfio.entity.ProgressRollup.Granularity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface StatsService {
+
+    List<ProgressBucketDto> getProgress(Granularity granularity, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,8 @@
+package com.shelfio.shelfio.service;
+
+import com.shelfio.shelfio.dto.response.SyncResponseDto;
+
+public interface SyncService {
+
+    SyncResponseDto getChangesSince(Long since, Integer limit);
+}
@@ -0,0 +1,183 @@
+package com.shelfio.shelfio.service.impl;
+
+import com.shelfio.shelfio.batch.BatchOperations;
+import com.shelfio.shelfio.batch.BatchProperties;
+import com.shelfio.shelfio.batch.SharedSnapshots;
+import com.shelfio.shelfio.datasource.ReadWriteRoutingDataSource;
+import com.shelfio.shelfio.dto.request.BatchRequestItem;
+import com.shelfio.shelfio.dto.response.ApiResponse;
+import com.shelfio.shelfio.dto.response.ApiResponse.ErrorDetails;
+import com.shelfio.shelfio.dto.response.BatchResultDto;
+import com.shelfio.shelfio.exception.ExternalServiceException;
+import com.shelfio.shelfio.exception.GlobalExceptionHandler;
+import com.shelfio.shelfio.exception.InvalidInputException;
+import com.shelfio.shelfio.exception.ResourceAlreadyExistsException;
+import com.shelfio.shelfio.exception.ResourceNotFoundException;
+import com.shelfio.shelfio.metrics.SqlStatementRecorder;
+import com.shelfio.shelfio.service.BatchService;
+import com.shelfio.shelfio.tenant.TenantContext;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Timed(value = "shelfio.service", histogram = true, extraTags = {"service", "batch"})
+public class BatchServiceImpl implements BatchService {
+
+    private final BatchOperations batchOperations;
+    private final BatchProperties batchProperties;
+    private final ExecutorService batchExecutor;
+    private final PlatformTransactionManager transactionManager;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final SharedSnapshots sharedSnapshots;
+
+    private record Outcome(BatchResultDto result, SqlStatementRecorder.Scope statements) {
+    }
+
+    @Override
+    public List<BatchResultDto> execute(List<BatchRequestItem> requests, boolean consistent) {
+        return consistent ? executeInSnapshot(requests) : executeInParallel(requests, null);
+    }
+
+    // In parallel where the snapshot can be shared with the workers (PostgreSQL), else one after the other
+    private List<BatchResultDto> executeInSnapshot(List<BatchRequestItem> requests) {
+        boolean shared = sharedSnapshots.isSupported();
+        return snapshotTransaction().execute(status -> {
+            // The exported snapshot stays importable while this transaction waits for the workers
+            List<BatchResultDto> results = shared
+                    ? executeInParallel(requests, sharedSnapshots.export())
+                    : requests.stream().map(this::invoke).toList();
+            // A failed request marks the shared transaction rollback-only; there is nothing to commit anyway
+            status.setRollbackOnly();
+            return results;
+        });
+    }
+
+    private TransactionTemplate snapshotTransaction() {
+        TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+        snapshot.setReadOnly(true);
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        return snapshot;
+    }
+
+    private List<BatchResultDto> executeInParallel(List<BatchRequestItem> requests, String snapshotId) {
+        String libraryId = TenantContext.getLibraryId();
+        boolean primaryForced = ReadWriteRoutingDataSource.isPrimaryForced();
+
+        List<Future<Outcome>> futures = new ArrayList<>(requests.size());
+        for (BatchRequestItem request : requests) {
+            futures.add(batchExecutor.submit(() -> invokeInWorker(request, libraryId, primaryForced, snapshotId)));
+        }
+
+        long deadline = System.nanoTime() + batchProperties.getTimeout().toNanos();
+        List<BatchResultDto> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < futures.size(); i++) {
+            Future<Outcome> future = futures.get(i);
+            try {
+                Outcome outcome = future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                SqlStatementRecorder.include(outcome.statements());
+                results.add(outcome.result());
+            } catch (TimeoutException ex) {
+                future.cancel(true);
+                results.add(timedOut(requests.get(i)));
+            } catch (ExecutionException ex) {
+                Exception cause = ex.getCause() instanceof Exception exception ? exception : ex;
+                results.add(result(requests.get(i), exceptionHandler.handleGenericException(cause)));
+            } catch (InterruptedException ex) {
+                futures.forEach(pending -> pending.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for batch results", ex);
+            }
+        }
+        return results;
+    }
+
+    // The worker reads the same library, and the same database, as the request thread would
+    private Outcome invokeInWorker(BatchRequestItem request, String libraryId, boolean primaryForced,
+                                   String snapshotId) {
+        return TenantContext.callInLibrary(libraryId, () -> {
+            if (primaryForced) {
+                ReadWriteRoutingDataSource.forcePrimary();
+            }
+            try (SqlStatementRecorder.Scope statements = SqlStatementRecorder.open()) {
+                return new Outcome(snapshotId != null ? invokeInSnapshot(request, snapshotId) : invoke(request),
+                        statements);
+            } finally {
+                if (primaryForced) {
+                    ReadWriteRoutingDataSource.clearForcedPrimary();
+                }
+            }
+        });
+    }
+
+    private BatchResultDto invokeInSnapshot(BatchRequestItem request, String snapshotId) {
+        return snapshotTransaction().execute(status -> {
+            sharedSnapshots.importSnapshot(snapshotId);
+            BatchResultDto result = invoke(request);
+            status.setRollbackOnly();
+            return result;
+        });
+    }
+
+    private BatchResultDto invoke(BatchRequestItem request) {
+        ResponseEntity<? extends ApiResponse<?>> response;
+        try {
+            response = batchOperations.invoke(request.getPath());
+        } catch (Exception ex) {
+            response = toErrorResponse(ex);
+        }
+        return result(request, response);
+    }
+
+    // Same status and body the request would get on its own
+    private ResponseEntity<? extends ApiResponse<?>> toErrorResponse(Exception ex) {
+        if (ex instanceof ResourceNotFoundException notFound) {
+            return exceptionHandler.handleResourceNotFound(notFound);
+        }
+        if (ex instanceof ResourceAlreadyExistsException alreadyExists) {
+            return exceptionHandler.handleResourceAlreadyExists(alreadyExists);
+        }
+        if (ex instanceof InvalidInputException invalidInput) {
+            return exceptionHandler.handleInvalidInput(invalidInput);
+        }
+        if (ex instanceof ExternalServiceException externalService) {
+            return exceptionHandler.handleExternalServiceError(externalService);
+        }
+        return exceptionHandler.handleGenericException(ex);
+    }
+
+    private static BatchResultDto timedOut(BatchRequestItem request) {
+        log.warn("Batch request for {} timed out", request.getPath());
+        ErrorDetails error = ErrorDetails.builder()
+                .code("TIMEOUT")
+                .details("The request did not complete in time")
+                .build();
+        return result(request, ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(ApiResponse.error("Request timed out", error)));
+    }
+
+    private static BatchResultDto result(BatchRequestItem request, ResponseEntity<? extends ApiResponse<?>> response) {
+        return BatchResultDto.builder()
+                .id(request.getId())
+                .path(request.getPath())
+                .status(response.getStatusCode().value())
+                .body(response.getBody())
+                .build();
+    }
+}
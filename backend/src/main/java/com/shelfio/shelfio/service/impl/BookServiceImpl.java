@@ -1,29 +1,48 @@
 package com.shelfio.shelfio.service.impl;
 
 import com.shelfio.shelfio.adapter.BookDataAdapter;
+import com.shelfio.shelfio.datasource.ReadWriteRoutingDataSource;
+import com.shelfio.shelfio.dto.request.ProgressUpdateItem;
 import com.shelfio.shelfio.dto.response.BookResponseDto;
+import com.shelfio.shelfio.dto.response.BulkDeleteResultDto;
+import com.shelfio.shelfio.dto.response.ProgressUpdateResultDto;
+import com.shelfio.shelfio.dto.response.ProgressUpdateResultDto.Outcome;
 import com.shelfio.shelfio.dto.ExternalBookDto;
 import com.shelfio.shelfio.exception.ExternalServiceException;
 import com.shelfio.shelfio.exception.InvalidInputException;
 import com.shelfio.shelfio.exception.ResourceAlreadyExistsException;
 import com.shelfio.shelfio.exception.ResourceNotFoundException;
 import com.shelfio.shelfio.mapper.BookMapper;
+import com.shelfio.shelfio.progress.PagesReadWriteBuffer;
+import com.shelfio.shelfio.progress.ReadingProgressEvent;
+import com.shelfio.shelfio.progress.ReadingProgressEvent.Change;
 import com.shelfio.shelfio.entity.*;
+import com.shelfio.shelfio.event.LibraryChangeEvent;
+import com.shelfio.shelfio.event.LibraryChangeEvent.Type;
 import com.shelfio.shelfio.repository.*;
 import com.shelfio.shelfio.service.BookService;
 import com.shelfio.shelfio.service.ReviewService;
-import jakarta.transaction.Transactional;
+import com.shelfio.shelfio.sync.ChangeLogRecorder;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "shelfio.service", histogram = true, extraTags = {"service", "book"})
 public class BookServiceImpl implements BookService {
 
     private final BookRepository bookRepository;
@@ -31,8 +50,12 @@ public class BookServiceImpl implements BookService {
     private final CategoryRepository categoryRepository;
     private final ReadingStatusRepository readingStatusRepository;
     private final ReviewRepository reviewRepository;
+    private final CollectionRepository collectionRepository;
     private final BookDataAdapter bookDataAdapter;
     private final ReviewService reviewService;
+    private final PagesReadWriteBuffer pagesReadWriteBuffer;
+    private final ChangeLogRecorder changeLogRecorder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public BookResponseDto addBookByIsbn(String isbn) {
@@ -43,7 +66,7 @@ public class BookServiceImpl implements BookService {
         return bookRepository.findByIsbn(isbn)
                 .map(book -> {
                     log.info("Book with ISBN {} already exists in database", isbn);
-                    return BookMapper.toDto(book);
+                    return toDto(book);
                 })
                 .orElseGet(() -> {
                     log.info("Fetching book data from external service for ISBN: {}", isbn);
@@ -78,8 +101,9 @@ public class BookServiceImpl implements BookService {
 
                     Book savedBook = bookRepository.save(book);
                     log.info("Successfully saved book with ID: {}", savedBook.getBookId());
+                    eventPublisher.publishEvent(LibraryChangeEvent.of(Type.BOOK_ADDED, List.of(savedBook.getBookId())));
 
-                    return BookMapper.toDto(savedBook);
+                    return toDto(savedBook);
                 });
     }
 
@@ -89,15 +113,44 @@ public class BookServiceImpl implements BookService {
             throw new InvalidInputException("Book ID cannot be null");
         }
 
-        // Check if book exists
-        if (!bookRepository.existsById(bookId)) {
+        if (deleteBooksByIds(List.of(bookId)) == 0) {
             throw new ResourceNotFoundException("Book not found with ID: " + bookId);
         }
 
-        // Delete the book
-        bookRepository.deleteById(bookId);
-
         log.info("Deleted book with ID: {}", bookId);
+        eventPublisher.publishEvent(LibraryChangeEvent.of(Type.BOOK_DELETED, List.of(bookId)));
+    }
+
+    @Override
+    public BulkDeleteResultDto deleteBooks(List<Long> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            throw new InvalidInputException("At least one book ID is required");
+        }
+        if (bookIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidInputException("Book ID cannot be null");
+        }
+
+        List<Long> requested = bookIds.stream().distinct().toList();
+        int deleted = deleteBooksByIds(requested);
+
+        log.info("Deleted {} of {} books", deleted, requested.size());
+        if (deleted > 0) {
+            eventPublisher.publishEvent(LibraryChangeEvent.of(Type.BOOK_DELETED, requested));
+        }
+        return BulkDeleteResultDto.builder()
+                .requested(requested.size())
+                .deleted(deleted)
+                .build();
+    }
+
+    // Set-based delete: collection links first, reviews cascade in the database
+    private int deleteBooksByIds(List<Long> bookIds) {
+        changeLogRecorder.recordBookDeletionCascade(bookIds);
+        collectionRepository.removeBooksFromAllCollections(bookIds);
+        int deleted = bookRepository.deleteByIds(bookIds);
+        // Put back if the delete rolls back
+        pagesReadWriteBuffer.discard(bookIds);
+        return deleted;
     }
 
     @Override
@@ -185,8 +238,9 @@ public class BookServiceImpl implements BookService {
 
         Book savedBook = bookRepository.save(book);
         log.info("Manually created book with ID: {} - {}", savedBook.getBookId(), savedBook.getTitle());
+        eventPublisher.publishEvent(LibraryChangeEvent.of(Type.BOOK_ADDED, List.of(savedBook.getBookId())));
 
-        return BookMapper.toDto(savedBook);
+        return toDto(savedBook);
     }
 
     private Author findOrCreateAuthor(String firstName, String lastName) {
@@ -231,7 +285,7 @@ public class BookServiceImpl implements BookService {
             throw new InvalidInputException("Status cannot be null or empty");
         }
 
-        Book book = bookRepository.findById(bookId)
+        Book book = bookRepository.findByIdForUpdate(bookId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Book not found with ID: " + bookId));
 
@@ -240,11 +294,16 @@ public class BookServiceImpl implements BookService {
                 .orElseThrow(() -> new InvalidInputException(
                         "Invalid reading status: " + status));
 
+        String previousStatus = statusName(book.getReadingStatus());
         book.setReadingStatus(readingStatus);
         Book updatedBook = bookRepository.save(book);
 
         log.info("Updated reading status for book ID: {} to {}", bookId, status);
-        return BookMapper.toDto(updatedBook);
+        int pagesRead = effectivePagesRead(book);
+        eventPublisher.publishEvent(ReadingProgressEvent.of(List.of(
+                new Change(bookId, pagesRead, pagesRead, previousStatus, readingStatus.getStatus()))));
+        eventPublisher.publishEvent(LibraryChangeEvent.of(Type.BOOK_UPDATED, List.of(bookId)));
+        return toDto(updatedBook);
     }
 
     @Override
@@ -257,10 +316,11 @@ public class BookServiceImpl implements BookService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Book not found with ID: " + bookId));
 
-        return BookMapper.toDto(book);
+        return toDto(book);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookResponseDto> getBooksByStatus(String status) {
         if (status == null || status.trim().isEmpty()) {
             throw new InvalidInputException("Status cannot be null or empty");
@@ -270,11 +330,12 @@ public class BookServiceImpl implements BookService {
         log.info("Found {} books with status: {}", books.size(), status);
 
         return books.stream()
-                .map(BookMapper::toDto)
+                .map(this::toDto)
                 .toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookResponseDto> getBooksByCategory(String category) {
         if (category == null || category.trim().isEmpty()) {
             throw new InvalidInputException("Category cannot be null or empty");
@@ -284,13 +345,29 @@ public class BookServiceImpl implements BookService {
         log.info("Found {} books in category: {}", books.size(), category);
 
         return books.stream()
-                .map(BookMapper::toDto)
+                .map(this::toDto)
                 .toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Integer getTotalPagesRead() {
-        Integer totalPages = bookRepository.getTotalPagesRead();
+        Integer totalPages;
+        if (pagesReadWriteBuffer.isEnabled()) {
+            // Sum on the primary: a replica may not have the flushed updates yet
+            boolean primaryForced = ReadWriteRoutingDataSource.isPrimaryForced();
+            ReadWriteRoutingDataSource.forcePrimary();
+            try {
+                pagesReadWriteBuffer.flush();
+                totalPages = bookRepository.getTotalPagesRead();
+            } finally {
+                if (!primaryForced) {
+                    ReadWriteRoutingDataSource.clearForcedPrimary();
+                }
+            }
+        } else {
+            totalPages = bookRepository.getTotalPagesRead();
+        }
         log.info("Total pages read: {}", totalPages != null ? totalPages : 0);
         return totalPages != null ? totalPages : 0;
     }
@@ -304,9 +381,12 @@ public class BookServiceImpl implements BookService {
             throw new InvalidInputException("Pages read cannot be null or negative");
         }
 
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Book not found with ID: " + bookId));
+        // Buffered updates leave the row to the write-behind flush and need no lock
+        Optional<Book> loaded = pagesReadWriteBuffer.isEnabled()
+                ? bookRepository.findById(bookId)
+                : bookRepository.findByIdForUpdate(bookId);
+        Book book = loaded.orElseThrow(() -> new ResourceNotFoundException(
+                "Book not found with ID: " + bookId));
 
         // Optional: Validate pagesRead doesn't exceed total pages
         if (book.getPages() != null && pagesRead > book.getPages()) {
@@ -314,24 +394,146 @@ public class BookServiceImpl implements BookService {
                     "Pages read (" + pagesRead + ") cannot exceed total pages (" + book.getPages() + ")");
         }
 
+        String status = statusName(book.getReadingStatus());
+        eventPublisher.publishEvent(ReadingProgressEvent.of(List.of(
+                new Change(bookId, effectivePagesRead(book), pagesRead, status, status))));
+
+        if (pagesReadWriteBuffer.isEnabled()) {
+            pagesReadWriteBuffer.record(bookId, pagesRead);
+            log.debug("Buffered pages read for book ID: {} at {} pages", bookId, pagesRead);
+            eventPublisher.publishEvent(LibraryChangeEvent.builder()
+                    .type(Type.PROGRESS_CHANGED)
+                    .ids(List.of(bookId))
+                    .buffered(true)
+                    .build());
+            // Buffered on commit, so not yet part of the overlay
+            BookResponseDto dto = toDto(book);
+            dto.setPagesRead(pagesRead);
+            return dto;
+        }
+
         book.setPagesRead(pagesRead);
         Book updatedBook = bookRepository.save(book);
 
         log.info("Updated pages read for book ID: {} to {} pages", bookId, pagesRead);
-        return BookMapper.toDto(updatedBook);
+        eventPublisher.publishEvent(LibraryChangeEvent.of(Type.PROGRESS_CHANGED, List.of(bookId)));
+        return toDto(updatedBook);
     }
 
     @Override
+    public List<ProgressUpdateResultDto> updateProgress(List<ProgressUpdateItem> updates) {
+        if (updates == null || updates.isEmpty()) {
+            throw new InvalidInputException("At least one progress update is required");
+        }
+
+        // Statuses first, so the books' status references resolve without extra queries
+        Map<String, ReadingStatus> statuses = readingStatusRepository.findAll().stream()
+                .collect(Collectors.toMap(ReadingStatus::getStatus, Function.identity()));
+
+        List<Long> bookIds = updates.stream()
+                .map(ProgressUpdateItem::getBookId)
+                .distinct()
+                .toList();
+        Map<Long, Book> books = bookRepository.findAllByIdForUpdate(bookIds).stream()
+                .collect(Collectors.toMap(Book::getBookId, Function.identity()));
+
+        // Changes are flushed as batched UPDATEs when the transaction commits
+        List<ProgressUpdateResultDto> results = new ArrayList<>(updates.size());
+        List<Change> changes = new ArrayList<>(updates.size());
+        for (ProgressUpdateItem update : updates) {
+            results.add(applyProgressUpdate(update, books.get(update.getBookId()), statuses, changes));
+        }
+
+        List<Long> updated = results.stream()
+                .filter(result -> result.getOutcome() == Outcome.UPDATED)
+                .map(ProgressUpdateResultDto::getBookId)
+                .distinct()
+                .toList();
+        log.info("Applied progress updates to {} books from {} updates", updated.size(), updates.size());
+        if (!updated.isEmpty()) {
+            eventPublisher.publishEvent(ReadingProgressEvent.of(changes));
+            eventPublisher.publishEvent(LibraryChangeEvent.of(Type.PROGRESS_CHANGED, updated));
+        }
+        return results;
+    }
+
+    private ProgressUpdateResultDto applyProgressUpdate(
+            ProgressUpdateItem update, Book book, Map<String, ReadingStatus> statuses, List<Change> changes) {
+
+        if (book == null) {
+            return progressFailure(update, Outcome.NOT_FOUND, "Book not found with ID: " + update.getBookId());
+        }
+        if (update.getPagesRead() == null && update.getStatus() == null) {
+            return progressFailure(update, Outcome.INVALID, "Pages read or status is required");
+        }
+        if (update.getPagesRead() != null && update.getPagesRead() < 0) {
+            return progressFailure(update, Outcome.INVALID, "Pages read cannot be negative");
+        }
+        if (update.getPagesRead() != null && book.getPages() != null && update.getPagesRead() > book.getPages()) {
+            return progressFailure(update, Outcome.INVALID,
+                    "Pages read (" + update.getPagesRead() + ") cannot exceed total pages (" + book.getPages() + ")");
+        }
+
+        int previousPagesRead = effectivePagesRead(book);
+        String previousStatus = statusName(book.getReadingStatus());
+        ReadingStatus readingStatus = book.getReadingStatus();
+        if (update.getStatus() != null) {
+            readingStatus = statuses.get(update.getStatus());
+            if (readingStatus == null) {
+                return progressFailure(update, Outcome.INVALID, "Invalid reading status: " + update.getStatus());
+            }
+            book.setReadingStatus(readingStatus);
+        }
+        if (update.getPagesRead() != null) {
+            book.setPagesRead(update.getPagesRead());
+            pagesReadWriteBuffer.discard(List.of(book.getBookId()));
+        }
+        Integer pendingPagesRead = pagesReadWriteBuffer.pendingPagesRead(book.getBookId());
+        changes.add(new Change(book.getBookId(), previousPagesRead, effectivePagesRead(book),
+                previousStatus, statusName(readingStatus)));
+
+        return ProgressUpdateResultDto.builder()
+                .bookId(book.getBookId())
+                .outcome(Outcome.UPDATED)
+                .pagesRead(pendingPagesRead != null ? pendingPagesRead : book.getPagesRead())
+                .status(readingStatus != null ? readingStatus.getStatus() : null)
+                .build();
+    }
+
+    // Pages read including a value still held in the write-behind buffer
+    private int effectivePagesRead(Book book) {
+        Integer pending = pagesReadWriteBuffer.pendingPagesRead(book.getBookId());
+        if (pending != null) {
+            return pending;
+        }
+        return book.getPagesRead() != null ? book.getPagesRead() : 0;
+    }
+
+    private static String statusName(ReadingStatus readingStatus) {
+        return readingStatus != null ? readingStatus.getStatus() : null;
+    }
+
+    private ProgressUpdateResultDto progressFailure(ProgressUpdateItem update, Outcome outcome, String error) {
+        return ProgressUpdateResultDto.builder()
+                .bookId(update.getBookId())
+                .outcome(outcome)
+                .error(error)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public BookResponseDto getLatestBook() {
         log.info("Fetching latest book");
 
         Book book = bookRepository.findFirstByOrderByBookIdDesc()
                 .orElseThrow(() -> new ResourceNotFoundException("No books found in library"));
 
-        return BookMapper.toDto(book);
+        return toDto(book);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookResponseDto> getLastThreeBooks() {
         log.info("Fetching last 3 books");
 
@@ -344,11 +546,12 @@ public class BookServiceImpl implements BookService {
         }
 
         return books.stream()
-                .map(BookMapper::toDto)
+                .map(this::toDto)
                 .toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookResponseDto> getAllBooks() {
         log.info("Fetching all books");
 
@@ -356,14 +559,19 @@ public class BookServiceImpl implements BookService {
         log.info("Found {} books", books.size());
 
         return books.stream()
-                .map(BookMapper::toDto)
+                .map(this::toDto)
                 .toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Long getBooksCount() {
         long count = bookRepository.count();
         log.info("Total books count: {}", count);
         return count;
     }
-}
\ No newline at end of file
+
+    private BookResponseDto toDto(Book book) {
+        return pagesReadWriteBuffer.overlay(BookMapper.toDto(book));
+    }
+}
@@ -1,30 +1,54 @@
 package com.shelfio.shelfio.service.impl;
 
+import com.shelfio.shelfio.dto.response.BookResponseDto;
+import com.shelfio.shelfio.dto.response.BulkDeleteResultDto;
+import com.shelfio.shelfio.dto.response.CollectionBooksPageDto;
+import com.shelfio.shelfio.dto.response.CollectionMembershipResultDto;
 import com.shelfio.shelfio.dto.response.CollectionResponseDto;
-import com.shelfio.shelfio.entity.Collection;
+import com.shelfio.shelfio.dto.response.CollectionSummaryDto;
 import com.shelfio.shelfio.entity.Book;
+import com.shelfio.shelfio.event.LibraryChangeEvent;
+import com.shelfio.shelfio.event.LibraryChangeEvent.Type;
+import com.shelfio.shelfio.entity.Collection;
 import com.shelfio.shelfio.exception.InvalidInputException;
 import com.shelfio.shelfio.exception.ResourceAlreadyExistsException;
 import com.shelfio.shelfio.exception.ResourceNotFoundException;
+import com.shelfio.shelfio.mapper.BookMapper;
 import com.shelfio.shelfio.mapper.CollectionMapper;
+import com.shelfio.shelfio.progress.PagesReadWriteBuffer;
 import com.shelfio.shelfio.repository.BookRepository;
 import com.shelfio.shelfio.repository.CollectionRepository;
 import com.shelfio.shelfio.service.CollectionService;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "shelfio.service", histogram = true, extraTags = {"service", "collection"})
 public class CollectionServiceImpl implements CollectionService {
 
+    private static final int MAX_SUMMARY_COVERS = 10;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CollectionRepository collectionRepository;
     private final BookRepository bookRepository;
+    private final PagesReadWriteBuffer pagesReadWriteBuffer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CollectionResponseDto createCollection(String name) {
@@ -43,21 +67,25 @@ public class CollectionServiceImpl implements CollectionService {
         Collection savedCollection = collectionRepository.save(collection);
         log.info("Created collection with ID: {} and name: {}",
                 savedCollection.getCollectionId(), name);
+        eventPublisher.publishEvent(LibraryChangeEvent.of(
+                Type.COLLECTION_CREATED, List.of(savedCollection.getCollectionId())));
 
-        return CollectionMapper.toDto(savedCollection);
+        return toDto(savedCollection);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CollectionResponseDto> getAllCollections() {
         List<Collection> collections = collectionRepository.findAll();
         log.info("Retrieved {} collections", collections.size());
 
         return collections.stream()
-                .map(CollectionMapper::toDto)
+                .map(this::toDto)
                 .toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CollectionResponseDto getCollectionById(Long id) {
         if (id == null) {
             throw new InvalidInputException("Collection ID cannot be null");
@@ -68,7 +96,67 @@ public class CollectionServiceImpl implements CollectionService {
                         "Collection not found with ID: " + id));
 
         log.info("Retrieved collection with ID: {}", id);
-        return CollectionMapper.toDto(collection);
+        return toDto(collection);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CollectionSummaryDto> getCollectionSummaries(int covers) {
+        if (covers < 0 || covers > MAX_SUMMARY_COVERS) {
+            throw new InvalidInputException("Covers must be between 0 and " + MAX_SUMMARY_COVERS);
+        }
+
+        // Ranked rows, at least one per collection so empty collections are listed too
+        Map<Long, CollectionSummaryDto> summaries = new LinkedHashMap<>();
+        for (Object[] row : collectionRepository.findSummaries(Math.max(covers, 1))) {
+            CollectionSummaryDto summary = summaries.computeIfAbsent(
+                    ((Number) row[0]).longValue(),
+                    id -> CollectionSummaryDto.builder()
+                            .id(id)
+                            .name((String) row[1])
+                            .bookCount(((Number) row[2]).longValue())
+                            .covers(new ArrayList<>())
+                            .build());
+            if (row[3] != null && summary.getCovers().size() < covers) {
+                summary.getCovers().add((String) row[3]);
+            }
+        }
+
+        log.info("Retrieved {} collection summaries", summaries.size());
+        return List.copyOf(summaries.values());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CollectionBooksPageDto getCollectionBooks(Long collectionId, Long afterBookId, int limit) {
+        if (collectionId == null) {
+            throw new InvalidInputException("Collection ID cannot be null");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        requireCollection(collectionId);
+
+        // One extra row tells whether another page follows
+        List<Book> books = bookRepository.findCollectionPage(
+                collectionId,
+                afterBookId != null ? afterBookId : 0L,
+                PageRequest.of(0, limit + 1));
+
+        boolean hasMore = books.size() > limit;
+        List<BookResponseDto> page = books.stream()
+                .limit(limit)
+                .map(BookMapper::toDto)
+                .map(pagesReadWriteBuffer::overlay)
+                .toList();
+
+        log.info("Retrieved {} books of collection ID: {} after book ID: {}", page.size(), collectionId, afterBookId);
+        return CollectionBooksPageDto.builder()
+                .collectionId(collectionId)
+                .books(page)
+                .nextCursor(hasMore ? page.get(page.size() - 1).getId() : null)
+                .build();
     }
 
     @Override
@@ -80,22 +168,18 @@ public class CollectionServiceImpl implements CollectionService {
             throw new InvalidInputException("Book ID cannot be null");
         }
 
-        Collection collection = collectionRepository.findById(collectionId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Collection not found with ID: " + collectionId));
-
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Book not found with ID: " + bookId));
+        requireCollection(collectionId);
+        if (!bookRepository.existsById(bookId)) {
+            throw new ResourceNotFoundException("Book not found with ID: " + bookId);
+        }
 
-        if (collection.getBooks().contains(book)) {
+        if (collectionRepository.addBooks(collectionId, List.of(bookId)) == 0) {
             log.info("Book ID: {} already exists in collection ID: {}", bookId, collectionId);
             return;
         }
 
-        collection.getBooks().add(book);
-        collectionRepository.save(collection);
         log.info("Added book ID: {} to collection ID: {}", bookId, collectionId);
+        eventPublisher.publishEvent(LibraryChangeEvent.collectionBooks(collectionId, List.of(bookId)));
     }
 
     @Override
@@ -107,21 +191,79 @@ public class CollectionServiceImpl implements CollectionService {
             throw new InvalidInputException("Book ID cannot be null");
         }
 
-        Collection collection = collectionRepository.findById(collectionId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Collection not found with ID: " + collectionId));
-
-        boolean removed = collection.getBooks().removeIf(
-                book -> book.getBookId().equals(bookId));
+        requireCollection(collectionId);
 
-        if (removed) {
-            collectionRepository.save(collection);
+        if (collectionRepository.removeBooks(collectionId, List.of(bookId)) > 0) {
             log.info("Removed book ID: {} from collection ID: {}", bookId, collectionId);
+            eventPublisher.publishEvent(LibraryChangeEvent.collectionBooks(collectionId, List.of(bookId)));
         } else {
             log.info("Book ID: {} not found in collection ID: {}", bookId, collectionId);
         }
     }
 
+    @Override
+    public CollectionMembershipResultDto addBooksToCollection(Long collectionId, List<Long> bookIds) {
+        List<Long> requested = requireBookIds(collectionId, bookIds);
+        requireCollection(collectionId);
+
+        Set<Long> existing = new HashSet<>(bookRepository.findExistingIds(requested));
+        List<Long> notFound = requested.stream()
+                .filter(bookId -> !existing.contains(bookId))
+                .toList();
+
+        int added = existing.isEmpty() ? 0 : collectionRepository.addBooks(collectionId, existing);
+        log.info("Added {} of {} books to collection ID: {}", added, requested.size(), collectionId);
+        if (added > 0) {
+            eventPublisher.publishEvent(LibraryChangeEvent.collectionBooks(collectionId, List.copyOf(existing)));
+        }
+
+        return CollectionMembershipResultDto.builder()
+                .collectionId(collectionId)
+                .requested(requested.size())
+                .changed(added)
+                .unchanged(existing.size() - added)
+                .notFoundBookIds(notFound)
+                .build();
+    }
+
+    @Override
+    public CollectionMembershipResultDto removeBooksFromCollection(Long collectionId, List<Long> bookIds) {
+        List<Long> requested = requireBookIds(collectionId, bookIds);
+        requireCollection(collectionId);
+
+        int removed = collectionRepository.removeBooks(collectionId, requested);
+        log.info("Removed {} of {} books from collection ID: {}", removed, requested.size(), collectionId);
+        if (removed > 0) {
+            eventPublisher.publishEvent(LibraryChangeEvent.collectionBooks(collectionId, requested));
+        }
+
+        return CollectionMembershipResultDto.builder()
+                .collectionId(collectionId)
+                .requested(requested.size())
+                .changed(removed)
+                .unchanged(requested.size() - removed)
+                .build();
+    }
+
+    private void requireCollection(Long collectionId) {
+        if (!collectionRepository.existsById(collectionId)) {
+            throw new ResourceNotFoundException("Collection not found with ID: " + collectionId);
+        }
+    }
+
+    private List<Long> requireBookIds(Long collectionId, List<Long> bookIds) {
+        if (collectionId == null) {
+            throw new InvalidInputException("Collection ID cannot be null");
+        }
+        if (bookIds == null || bookIds.isEmpty()) {
+            throw new InvalidInputException("At least one book ID is required");
+        }
+        if (bookIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidInputException("Book ID cannot be null");
+        }
+        return bookIds.stream().distinct().toList();
+    }
+
     @Override
     public void deleteCollection(Long id) {
         if (id == null) {
@@ -134,5 +276,34 @@ public class CollectionServiceImpl implements CollectionService {
 
         collectionRepository.deleteById(id);
         log.info("Deleted collection with ID: {}", id);
+        eventPublisher.publishEvent(LibraryChangeEvent.of(Type.COLLECTION_DELETED, List.of(id)));
+    }
+
+    @Override
+    public BulkDeleteResultDto deleteCollections(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidInputException("At least one collection ID is required");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidInputException("Collection ID cannot be null");
+        }
+
+        List<Long> requested = ids.stream().distinct().toList();
+        int deleted = collectionRepository.deleteByIds(requested);
+
+        log.info("Deleted {} of {} collections", deleted, requested.size());
+        if (deleted > 0) {
+            eventPublisher.publishEvent(LibraryChangeEvent.of(Type.COLLECTION_DELETED, requested));
+        }
+        return BulkDeleteResultDto.builder()
+                .requested(requested.size())
+                .deleted(deleted)
+                .build();
+    }
+
+    private CollectionResponseDto toDto(Collection collection) {
+        CollectionResponseDto dto = CollectionMapper.toDto(collection);
+        dto.getBooks().forEach(pagesReadWriteBuffer::overlay);
+        return dto;
     }
-}
\ No newline at end of file
+}
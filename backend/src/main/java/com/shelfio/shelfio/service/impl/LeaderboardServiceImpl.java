@@ -0,0 +1,75 @@
+package com.shelfio.shelfio.service.impl;
+
+import com.shelfio.shelfio.dto.response.LeaderboardEntryDto;
+import com.shelfio.shelfio.entity.Book;
+import com.shelfio.shelfio.exception.InvalidInputException;
+import com.shelfio.shelfio.leaderboard.LeaderboardMetric;
+import com.shelfio.shelfio.leaderboard.LeaderboardProperties;
+import com.shelfio.shelfio.leaderboard.Leaderboards;
+import com.shelfio.shelfio.leaderboard.Standing;
+import com.shelfio.shelfio.repository.BookRepository;
+import com.shelfio.shelfio.service.LeaderboardService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Timed(value = "shelfio.service", histogram = true, extraTags = {"service", "leaderboard"})
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    private final Leaderboards leaderboards;
+    private final LeaderboardProperties leaderboardProperties;
+    private final BookRepository bookRepository;
+
+    @Override
+    public List<LeaderboardEntryDto> getLeaderboard(
+            LeaderboardMetric metric, String category, String status, Integer limit) {
+
+        if (metric == null) {
+            throw new InvalidInputException("Leaderboard metric cannot be null");
+        }
+        int size = limit != null ? limit : leaderboardProperties.getDefaultLimit();
+        if (size < 1 || size > leaderboardProperties.getMaxLimit()) {
+            throw new InvalidInputException("Limit must be between 1 and " + leaderboardProperties.getMaxLimit());
+        }
+
+        List<Standing> standings = leaderboards.top(metric, category, status, size);
+        Map<Long, Book> books = bookRepository
+                .findAllById(standings.stream().map(Standing::bookId).toList()).stream()
+                .collect(Collectors.toMap(Book::getBookId, Function.identity()));
+
+        List<LeaderboardEntryDto> entries = new ArrayList<>(standings.size());
+        for (Standing standing : standings) {
+            Book book = books.get(standing.bookId());
+            if (book == null) {
+                continue;
+            }
+            entries.add(LeaderboardEntryDto.builder()
+                    .rank(entries.size() + 1)
+                    .bookId(book.getBookId())
+                    .title(book.getTitle())
+                    .author(book.getAuthor() != null
+                            ? book.getAuthor().getFirstName() + " " + book.getAuthor().getLastName()
+                            : null)
+                    .category(book.getCategory() != null ? book.getCategory().getName() : null)
+                    .status(book.getReadingStatus() != null ? book.getReadingStatus().getStatus() : null)
+                    .coverUrl(book.getBookcover())
+                    .averageRating(standing.averageRating())
+                    .reviewCount(standing.reviewCount())
+                    .build());
+        }
+        log.info("Found {} {} leaderboard entries", entries.size(), metric);
+        return entries;
+    }
+}
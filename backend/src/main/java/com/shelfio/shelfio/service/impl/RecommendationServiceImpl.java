@@ -0,0 +1,64 @@
+package com.shelfio.shelfio.service.impl;
+
+import com.shelfio.shelfio.dto.response.SimilarBookDto;
+import com.shelfio.shelfio.entity.Book;
+import com.shelfio.shelfio.exception.InvalidInputException;
+import com.shelfio.shelfio.exception.ResourceNotFoundException;
+import com.shelfio.shelfio.mapper.BookMapper;
+import com.shelfio.shelfio.recommendation.Neighbours;
+import com.shelfio.shelfio.recommendation.SimilarBooksIndex;
+import com.shelfio.shelfio.recommendation.SimilarBooksProperties;
+import com.shelfio.shelfio.repository.BookRepository;
+import com.shelfio.shelfio.service.RecommendationService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Timed(value = "shelfio.service", histogram = true, extraTags = {"service", "recommendation"})
+public class RecommendationServiceImpl implements RecommendationService {
+
+    private final SimilarBooksIndex similarBooksIndex;
+    private final SimilarBooksProperties similarBooksProperties;
+    private final BookRepository bookRepository;
+
+    @Override
+    public List<SimilarBookDto> getSimilarBooks(Long bookId, Integer limit) {
+        int topK = similarBooksProperties.getTopK();
+        int size = limit != null ? limit : topK;
+        if (size < 1 || size > topK) {
+            throw new InvalidInputException("Limit must be between 1 and " + topK);
+        }
+        if (bookRepository.findById(bookId).isEmpty()) {
+            throw new ResourceNotFoundException("Book not found with ID: " + bookId);
+        }
+
+        Neighbours neighbours = similarBooksIndex.neighbours(bookId, size);
+        Map<Long, Book> books = bookRepository
+                .findAllById(Arrays.stream(neighbours.bookIds()).boxed().toList()).stream()
+                .collect(Collectors.toMap(Book::getBookId, Function.identity()));
+
+        // Keep the index order; books deleted since the last refresh are skipped
+        List<SimilarBookDto> similar = new ArrayList<>(neighbours.size());
+        for (int i = 0; i < neighbours.size(); i++) {
+            Book book = books.get(neighbours.bookIds()[i]);
+            if (book != null) {
+                similar.add(BookMapper.toSimilarDto(book, neighbours.scores()[i]));
+            }
+        }
+        log.debug("Found {} similar books for book ID: {}", similar.size(), bookId);
+        return similar;
+    }
+}
@@ -1,29 +1,39 @@
 package com.shelfio.shelfio.service.impl;
 
+import com.shelfio.shelfio.dto.response.BulkDeleteResultDto;
 import com.shelfio.shelfio.dto.response.ReviewResponseDto;
 import com.shelfio.shelfio.entity.Book;
 import com.shelfio.shelfio.entity.Review;
+import com.shelfio.shelfio.event.LibraryChangeEvent;
+import com.shelfio.shelfio.event.LibraryChangeEvent.Type;
+import com.shelfio.shelfio.event.ReviewRatingsChangedEvent;
+import com.shelfio.shelfio.event.ReviewRatingsChangedEvent.RatingChange;
 import com.shelfio.shelfio.exception.InvalidInputException;
 import com.shelfio.shelfio.exception.ResourceNotFoundException;
 import com.shelfio.shelfio.mapper.ReviewMapper;
 import com.shelfio.shelfio.repository.BookRepository;
 import com.shelfio.shelfio.repository.ReviewRepository;
 import com.shelfio.shelfio.service.ReviewService;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "shelfio.service", histogram = true, extraTags = {"service", "review"})
 public class ReviewServiceImpl implements ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final BookRepository bookRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ReviewResponseDto addReview(Long bookId, Integer rating, String comment) {
@@ -43,9 +53,13 @@ public class ReviewServiceImpl implements ReviewService {
                 .rating(rating)
                 .comment(comment)
                 .build();
+        // Keep the cached Book.reviews collection in step with the new review
+        book.getReviews().add(review);
 
         Review savedReview = reviewRepository.save(review);
         log.info("Added review for book ID: {} with rating: {}", bookId, rating);
+        publishRatingChange(book, null, rating);
+        eventPublisher.publishEvent(LibraryChangeEvent.review(Type.REVIEW_ADDED, savedReview.getReviewId(), bookId));
 
         return ReviewMapper.toDto(savedReview);
     }
@@ -63,11 +77,15 @@ public class ReviewServiceImpl implements ReviewService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Review not found with ID: " + reviewId));
 
+        Integer previousRating = review.getRating();
         review.setRating(rating);
         review.setComment(comment);
 
         Review updatedReview = reviewRepository.save(review);
         log.info("Updated review ID: {} - New rating: {}", reviewId, rating);
+        publishRatingChange(updatedReview.getBook(), previousRating, rating);
+        eventPublisher.publishEvent(LibraryChangeEvent.review(
+                Type.REVIEW_UPDATED, reviewId, updatedReview.getBook().getBookId()));
 
         return ReviewMapper.toDto(updatedReview);
     }
@@ -78,15 +96,51 @@ public class ReviewServiceImpl implements ReviewService {
             throw new InvalidInputException("Review ID cannot be null");
         }
 
-        if (!reviewRepository.existsById(reviewId)) {
-            throw new ResourceNotFoundException("Review not found with ID: " + reviewId);
-        }
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Review not found with ID: " + reviewId));
 
-        reviewRepository.deleteById(reviewId);
+        review.getBook().getReviews().remove(review);
+        reviewRepository.delete(review);
         log.info("Deleted review with ID: {}", reviewId);
+        publishRatingChange(review.getBook(), review.getRating(), null);
+        eventPublisher.publishEvent(LibraryChangeEvent.review(
+                Type.REVIEW_DELETED, reviewId, review.getBook().getBookId()));
+    }
+
+    @Override
+    public BulkDeleteResultDto deleteReviews(List<Long> reviewIds) {
+        if (reviewIds == null || reviewIds.isEmpty()) {
+            throw new InvalidInputException("At least one review ID is required");
+        }
+        if (reviewIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidInputException("Review ID cannot be null");
+        }
+
+        List<Long> requested = reviewIds.stream().distinct().toList();
+        int deleted = reviewRepository.deleteByIds(requested);
+
+        log.info("Deleted {} of {} reviews", deleted, requested.size());
+        if (deleted > 0) {
+            eventPublisher.publishEvent(LibraryChangeEvent.of(Type.REVIEW_DELETED, requested));
+        }
+        return BulkDeleteResultDto.builder()
+                .requested(requested.size())
+                .deleted(deleted)
+                .build();
+    }
+
+    private void publishRatingChange(Book book, Integer ratingBefore, Integer ratingAfter) {
+        eventPublisher.publishEvent(ReviewRatingsChangedEvent.of(List.of(new RatingChange(
+                book.getBookId(),
+                book.getCategory() != null ? book.getCategory().getName() : null,
+                book.getReadingStatus() != null ? book.getReadingStatus().getStatus() : null,
+                ratingBefore,
+                ratingAfter))));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ReviewResponseDto getReviewById(Long reviewId) {
         if (reviewId == null) {
             throw new InvalidInputException("Review ID cannot be null");
@@ -100,6 +154,7 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ReviewResponseDto> getReviewsByBookId(Long bookId) {
         if (bookId == null) {
             throw new InvalidInputException("Book ID cannot be null");
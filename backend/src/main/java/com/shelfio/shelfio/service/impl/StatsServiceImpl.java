@@ -0,0 +1,82 @@
+package com.shelfio.shelfio.service.impl;
+
+import com.shelfio.shelfio.dto.response.ProgressBucketDto;
+import com.shelfio.shelfio.entity.ProgressRollup;
+import com.shelfio.shelfio.entity.ProgressRollup.Granularity;
+import com.shelfio.shelfio.exception.InvalidInputException;
+import com.shelfio.shelfio.repository.ProgressRollupRepository;
+import com.shelfio.shelfio.service.StatsService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Timed(value = "shelfio.service", histogram = true, extraTags = {"service", "stats"})
+public class StatsServiceImpl implements StatsService {
+
+    // A year of days; week and month ranges are far below it
+    private static final int MAX_BUCKETS = 366;
+    private static final int DEFAULT_BUCKETS = 30;
+
+    private final ProgressRollupRepository progressRollupRepository;
+
+    @Override
+    public List<ProgressBucketDto> getProgress(Granularity granularity, LocalDate from, LocalDate to) {
+        if (granularity == null) {
+            throw new InvalidInputException("Granularity cannot be null");
+        }
+        LocalDate last = granularity.bucketStart(to != null ? to : LocalDate.now());
+        LocalDate first = from != null
+                ? granularity.bucketStart(from)
+                : last.minus(DEFAULT_BUCKETS - 1L, unitOf(granularity));
+        if (first.isAfter(last)) {
+            throw new InvalidInputException("From date cannot be after to date");
+        }
+        if (unitOf(granularity).between(first, last) >= MAX_BUCKETS) {
+            throw new InvalidInputException("Date range cannot span more than " + MAX_BUCKETS + " buckets");
+        }
+
+        Map<LocalDate, ProgressRollup> rollups = progressRollupRepository
+                .findByGranularityAndBucketStartBetweenOrderByBucketStart(granularity, first, last).stream()
+                .collect(Collectors.toMap(ProgressRollup::getBucketStart, Function.identity()));
+
+        // Buckets without progress are returned as zeros, so charts get a continuous series
+        List<ProgressBucketDto> buckets = new ArrayList<>();
+        for (LocalDate bucket = first; !bucket.isAfter(last); bucket = granularity.next(bucket)) {
+            ProgressRollup rollup = rollups.get(bucket);
+            buckets.add(rollup == null
+                    ? ProgressBucketDto.builder().bucketStart(bucket).build()
+                    : ProgressBucketDto.builder()
+                    .bucketStart(bucket)
+                    .pagesRead(rollup.getPagesRead())
+                    .booksStarted(rollup.getBooksStarted())
+                    .booksFinished(rollup.getBooksFinished())
+                    .progressUpdates(rollup.getProgressUpdates())
+                    .build());
+        }
+        log.info("Found {} {} progress buckets with activity between {} and {}",
+                rollups.size(), granularity, first, last);
+        return buckets;
+    }
+
+    private static ChronoUnit unitOf(Granularity granularity) {
+        return switch (granularity) {
+            case DAY -> ChronoUnit.DAYS;
+            case WEEK -> ChronoUnit.WEEKS;
+            case MONTH -> ChronoUnit.MONTHS;
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package com.shelfio.shelfio.service.impl;
+
+import com.shelfio.shelfio.dto.response.BookResponseDto;
+import com.shelfio.shelfio.dto.response.ReviewResponseDto;
+import com.shelfio.shelfio.dto.response.SyncCollectionDto;
+import com.shelfio.shelfio.dto.response.SyncResponseDto;
+import com.shelfio.shelfio.dto.response.SyncResponseDto.Tombstones;
+import com.shelfio.shelfio.entity.Book;
+import com.shelfio.shelfio.entity.ChangeLogEntry;
+import com.shelfio.shelfio.entity.ChangeLogEntry.EntityType;
+import com.shelfio.shelfio.entity.ChangeLogEntry.Operation;
+import com.shelfio.shelfio.entity.Collection;
+import com.shelfio.shelfio.exception.InvalidInputException;
+import com.shelfio.shelfio.mapper.BookMapper;
+import com.shelfio.shelfio.mapper.ReviewMapper;
+import com.shelfio.shelfio.progress.PagesReadWriteBuffer;
+import com.shelfio.shelfio.repository.BookRepository;
+import com.shelfio.shelfio.repository.ChangeLogRepository;
+import com.shelfio.shelfio.repository.CollectionRepository;
+import com.shelfio.shelfio.repository.ReviewRepository;
+import com.shelfio.shelfio.service.SyncService;
+import com.shelfio.shelfio.sync.SyncProperties;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Timed(value = "shelfio.service", histogram = true, extraTags = {"service", "sync"})
+public class SyncServiceImpl implements SyncService {
+
+    private final ChangeLogRepository changeLogRepository;
+    private final BookRepository bookRepository;
+    private final ReviewRepository reviewRepository;
+    private final CollectionRepository collectionRepository;
+    private final PagesReadWriteBuffer pagesReadWriteBuffer;
+    private final SyncProperties syncProperties;
+
+    @Override
+    public SyncResponseDto getChangesSince(Long since, Integer limit) {
+        long cursor = since != null ? since : 0L;
+        int pageSize = limit != null ? limit : syncProperties.getDefaultPageSize();
+        if (cursor < 0) {
+            throw new InvalidInputException("Cursor cannot be negative");
+        }
+        if (pageSize < 1 || pageSize > syncProperties.getMaxPageSize()) {
+            throw new InvalidInputException("Limit must be between 1 and " + syncProperties.getMaxPageSize());
+        }
+
+        List<ChangeLogEntry> entries = changeLogRepository
+                .findByLogPositionGreaterThanOrderByLogPosition(cursor, PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = entries.size() > pageSize;
+        if (hasMore) {
+            entries = entries.subList(0, pageSize);
+        }
+
+        // Latest operation per entity wins, so repeated updates are sent once
+        Map<EntityType, Map<Long, Operation>> latest = new EnumMap<>(EntityType.class);
+        for (ChangeLogEntry entry : entries) {
+            latest.computeIfAbsent(entry.getEntityType(), type -> new LinkedHashMap<>())
+                    .put(entry.getEntityId(), entry.getOperation());
+        }
+
+        Tombstones deleted = Tombstones.builder()
+                .books(new ArrayList<>())
+                .reviews(new ArrayList<>())
+                .collections(new ArrayList<>())
+                .build();
+
+        List<BookResponseDto> books = bookRepository
+                .findAllById(upserts(latest, EntityType.BOOK, deleted.getBooks())).stream()
+                .map(this::toBookDto)
+                .toList();
+        List<ReviewResponseDto> reviews = reviewRepository
+                .findAllById(upserts(latest, EntityType.REVIEW, deleted.getReviews())).stream()
+                .map(ReviewMapper::toDto)
+                .toList();
+        List<SyncCollectionDto> collections = collectionRepository
+                .findAllById(upserts(latest, EntityType.COLLECTION, deleted.getCollections())).stream()
+                .map(this::toSyncDto)
+                .toList();
+
+        // Upserted entities that no longer exist were deleted after this page
+        addMissing(latest, EntityType.BOOK, books.stream().map(BookResponseDto::getId), deleted.getBooks());
+        addMissing(latest, EntityType.REVIEW, reviews.stream().map(ReviewResponseDto::getReviewId), deleted.getReviews());
+        addMissing(latest, EntityType.COLLECTION, collections.stream().map(SyncCollectionDto::getId),
+                deleted.getCollections());
+
+        long nextCursor = entries.isEmpty() ? cursor : entries.get(entries.size() - 1).getLogPosition();
+        log.info("Sync since {} returned {} changes, next cursor {}", cursor, entries.size(), nextCursor);
+
+        return SyncResponseDto.builder()
+                .cursor(nextCursor)
+                .hasMore(hasMore)
+                .books(books)
+                .reviews(reviews)
+                .collections(collections)
+                .deleted(deleted)
+                .build();
+    }
+
+    private List<Long> upserts(Map<EntityType, Map<Long, Operation>> latest, EntityType type, List<Long> deleted) {
+        List<Long> upserted = new ArrayList<>();
+        latest.getOrDefault(type, Map.of()).forEach((id, operation) -> {
+            if (operation == Operation.DELETE) {
+                deleted.add(id);
+            } else {
+                upserted.add(id);
+            }
+        });
+        return upserted;
+    }
+
+    private void addMissing(Map<EntityType, Map<Long, Operation>> latest, EntityType type,
+                            Stream<Long> foundIds, List<Long> deleted) {
+        Set<Long> found = foundIds.collect(Collectors.toSet());
+        latest.getOrDefault(type, Map.of()).forEach((id, operation) -> {
+            if (operation == Operation.UPSERT && !found.contains(id)) {
+                deleted.add(id);
+            }
+        });
+    }
+
+    private BookResponseDto toBookDto(Book book) {
+        return pagesReadWriteBuffer.overlay(BookMapper.toDto(book));
+    }
+
+    private SyncCollectionDto toSyncDto(Collection collection) {
+        return SyncCollectionDto.builder()
+                .id(collection.getCollectionId())
+                .name(collection.getName())
+                .bookIds(collection.getBooks().stream().map(Book::getBookId).sorted().toList())
+                .build();
+    }
+}
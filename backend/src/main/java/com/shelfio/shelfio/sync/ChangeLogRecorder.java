@@ -0,0 +1,96 @@
+package com.shelfio.shelfio.sync;
+
+import com.shelfio.shelfio.entity.ChangeLogEntry.EntityType;
+import com.shelfio.shelfio.entity.ChangeLogEntry.Operation;
+import com.shelfio.shelfio.event.LibraryChangeEvent;
+import com.shelfio.shelfio.progress.PagesReadFlushedEvent;
+import com.shelfio.shelfio.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Appends change log entries for library changes. Listens synchronously, so
+ * entries are written in the transaction of the change itself, as one JDBC
+ * batch per change.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeLogRecorder {
+
+    private static final String INSERT_ENTRY =
+            "INSERT INTO change_log (library_id, entity_type, entity_id, operation, changed_at) VALUES (?, ?, ?, ?, ?)";
+
+    // Reviews of deleted books are removed by ON DELETE CASCADE, without events of their own
+    private static final String INSERT_REVIEW_TOMBSTONES =
+            "INSERT INTO change_log (library_id, entity_type, entity_id, operation, changed_at) "
+                    + "SELECT r.library_id, 'REVIEW', r.review_id, 'DELETE', ? FROM reviews r "
+                    + "WHERE r.library_id = ? AND r.book_id IN (%s)";
+
+    private static final String INSERT_COLLECTION_UPSERTS =
+            "INSERT INTO change_log (library_id, entity_type, entity_id, operation, changed_at) "
+                    + "SELECT DISTINCT c.library_id, 'COLLECTION', c.collection_id, 'UPSERT', ? FROM collections c "
+                    + "JOIN collection_books cb ON cb.collection_id = c.collection_id "
+                    + "WHERE c.library_id = ? AND cb.book_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeLogSequencer changeLogSequencer;
+
+    @EventListener
+    public void onLibraryChange(LibraryChangeEvent event) {
+        // Buffered progress is recorded when the write-behind buffer flushes it
+        if (event.isBuffered()) {
+            return;
+        }
+
+        String libraryId = event.getLibraryId();
+        switch (event.getType()) {
+            case BOOK_ADDED, BOOK_UPDATED, PROGRESS_CHANGED ->
+                    record(libraryId, EntityType.BOOK, Operation.UPSERT, event.getIds());
+            case BOOK_DELETED -> record(libraryId, EntityType.BOOK, Operation.DELETE, event.getIds());
+            case REVIEW_ADDED, REVIEW_UPDATED -> record(libraryId, EntityType.REVIEW, Operation.UPSERT, event.getIds());
+            case REVIEW_DELETED -> record(libraryId, EntityType.REVIEW, Operation.DELETE, event.getIds());
+            case COLLECTION_CREATED -> record(libraryId, EntityType.COLLECTION, Operation.UPSERT, event.getIds());
+            case COLLECTION_BOOKS_CHANGED ->
+                    record(libraryId, EntityType.COLLECTION, Operation.UPSERT, List.of(event.getCollectionId()));
+            case COLLECTION_DELETED -> record(libraryId, EntityType.COLLECTION, Operation.DELETE, event.getIds());
+        }
+    }
+
+    @EventListener
+    public void onPagesReadFlushed(PagesReadFlushedEvent event) {
+        record(event.getLibraryId(), EntityType.BOOK, Operation.UPSERT, event.getBookIds());
+    }
+
+    /**
+     * Logs what deleting these books of the current library takes along:
+     * tombstones for their reviews and upserts for the collections losing
+     * them. Must run before the delete, while those rows still exist.
+     */
+    public void recordBookDeletionCascade(List<Long> bookIds) {
+        String placeholders = String.join(", ", Collections.nCopies(bookIds.size(), "?"));
+        List<Object> args = new ArrayList<>(bookIds.size() + 2);
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.add(TenantContext.getLibraryId());
+        args.addAll(bookIds);
+
+        jdbcTemplate.update(INSERT_REVIEW_TOMBSTONES.formatted(placeholders), args.toArray());
+        jdbcTemplate.update(INSERT_COLLECTION_UPSERTS.formatted(placeholders), args.toArray());
+        changeLogSequencer.sequenceAfterCommit();
+    }
+
+    private void record(String libraryId, EntityType entityType, Operation operation, List<Long> entityIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, entityIds.stream()
+                .map(entityId -> new Object[]{libraryId, entityType.name(), entityId, operation.name(), now})
+                .toList());
+        changeLogSequencer.sequenceAfterCommit();
+    }
+}
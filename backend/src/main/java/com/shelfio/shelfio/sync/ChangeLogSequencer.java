@@ -0,0 +1,118 @@
+package com.shelfio.shelfio.sync;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Assigns log positions, the sync cursor, to committed change log entries.
+ *
+ * <p>Change ids are taken when a transaction writes, so a transaction can
+ * commit a lower id after a client has synced past it. Positions are assigned
+ * after commit instead, by runs serialized on the row of
+ * {@code change_log_sequence}: every position a client can see was assigned
+ * by a committed run, and later runs only assign higher ones.
+ *
+ * <p>Writers run it right after they commit; the periodic run picks up entries
+ * whose writer did not get to it, e.g. because the instance stopped.
+ */
+@Slf4j
+public class ChangeLogSequencer {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String LOCK =
+            "SELECT last_position FROM change_log_sequence WHERE sequence_id = 1 FOR UPDATE";
+
+    // Positions start after the highest change id, the cursor clients used before positions existed
+    private static final String INIT =
+            "INSERT INTO change_log_sequence (sequence_id, last_position) "
+                    + "SELECT 1, COALESCE(MAX(change_id), 0) FROM change_log ON CONFLICT DO NOTHING";
+
+    private static final String SELECT_UNSEQUENCED =
+            "SELECT change_id FROM change_log WHERE log_position IS NULL ORDER BY change_id LIMIT ?";
+
+    private static final String ASSIGN = "UPDATE change_log SET log_position = ? WHERE change_id = ?";
+
+    private static final String ADVANCE = "UPDATE change_log_sequence SET last_position = ? WHERE sequence_id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChangeLogSequencer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Also called after the writer's commit, while its resources are still bound
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Sequences the entries of the current transaction once it commits, or
+     * right away when there is none. Registered once per transaction.
+     */
+    public void sequenceAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sequence();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ChangeLogSequencer.this);
+                if (status == STATUS_COMMITTED) {
+                    sequenceQuietly();
+                }
+            }
+        });
+    }
+
+    // The change is committed either way; the periodic run retries
+    public void sequenceQuietly() {
+        try {
+            sequence();
+        } catch (RuntimeException ex) {
+            log.warn("Sequencing change log entries failed, left to the next run", ex);
+        }
+    }
+
+    public void sequence() {
+        int assigned;
+        do {
+            assigned = transactionTemplate.execute(status -> assignBatch());
+        } while (assigned == BATCH_SIZE);
+    }
+
+    private int assignBatch() {
+        List<Long> last = jdbcTemplate.queryForList(LOCK, Long.class);
+        if (last.isEmpty()) {
+            jdbcTemplate.update(INIT);
+            last = jdbcTemplate.queryForList(LOCK, Long.class);
+        }
+
+        List<Long> changeIds = jdbcTemplate.queryForList(SELECT_UNSEQUENCED, Long.class, BATCH_SIZE);
+        if (changeIds.isEmpty()) {
+            return 0;
+        }
+
+        long position = last.get(0);
+        List<Object[]> positions = new ArrayList<>(changeIds.size());
+        for (Long changeId : changeIds) {
+            positions.add(new Object[]{++position, changeId});
+        }
+        jdbcTemplate.batchUpdate(ASSIGN, positions);
+        jdbcTemplate.update(ADVANCE, position);
+        log.debug("Sequenced {} change log entries up to position {}", changeIds.size(), position);
+        return changeIds.size();
+    }
+}
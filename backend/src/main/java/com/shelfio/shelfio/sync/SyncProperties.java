@@ -0,0 +1,21 @@
+package com.shelfio.shelfio.sync;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "shelfio.sync")
+public class SyncProperties {
+
+    /**
+     * Interval of the periodic sequencer run. Writers sequence their own
+     * entries after commit; this run only covers those they did not get to.
+     */
+    private Duration sequenceInterval = Duration.ofSeconds(1);
+
+    private int defaultPageSize = 200;
+
+    private int maxPageSize = 1000;
+}
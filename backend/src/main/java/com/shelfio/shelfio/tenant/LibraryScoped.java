@@ -0,0 +1,9 @@
+package com.shelfio.shelfio.tenant;
+
+/**
+ * An entity that belongs to one library.
+ */
+public interface LibraryScoped {
+
+    String getLibraryId();
+}
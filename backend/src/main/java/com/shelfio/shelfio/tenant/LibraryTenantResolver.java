@@ -0,0 +1,20 @@
+package com.shelfio.shelfio.tenant;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Supplies the current library to Hibernate, which stamps it on inserted
+ * entities and adds it as a restriction to every entity query.
+ */
+public class LibraryTenantResolver implements CurrentTenantIdentifierResolver {
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        return TenantContext.getLibraryId();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+}
@@ -0,0 +1,29 @@
+package com.shelfio.shelfio.tenant;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.util.Optional;
+
+/**
+ * Repository base class that keeps lookups by id inside the current library.
+ * Hibernate adds the tenant restriction to queries, but not to loading a
+ * single entity by its id.
+ */
+public class TenantAwareJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> {
+
+    public TenantAwareJpaRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+    }
+
+    @Override
+    public Optional<T> findById(ID id) {
+        return super.findById(id).filter(TenantAwareJpaRepository::inCurrentLibrary);
+    }
+
+    private static boolean inCurrentLibrary(Object entity) {
+        return !(entity instanceof LibraryScoped scoped)
+                || TenantContext.getLibraryId().equals(scoped.getLibraryId());
+    }
+}
@@ -0,0 +1,57 @@
+package com.shelfio.shelfio.tenant;
+
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * The library (tenant) the current thread works on. Set per request by
+ * {@link TenantFilter}; code running outside a request, such as startup
+ * initializers and scheduled jobs, uses the default library.
+ */
+public final class TenantContext {
+
+    public static final String DEFAULT_LIBRARY_ID = "default";
+
+    private static final Pattern LIBRARY_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String getLibraryId() {
+        String libraryId = CURRENT.get();
+        return libraryId != null ? libraryId : DEFAULT_LIBRARY_ID;
+    }
+
+    public static void setLibraryId(String libraryId) {
+        if (!isValid(libraryId)) {
+            throw new IllegalArgumentException("Invalid library id: " + libraryId);
+        }
+        CURRENT.set(libraryId);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static boolean isValid(String libraryId) {
+        return libraryId != null && LIBRARY_ID.matcher(libraryId).matches();
+    }
+
+    /**
+     * Runs {@code work} in the given library and restores the previous one afterwards.
+     */
+    public static <T> T callInLibrary(String libraryId, Supplier<T> work) {
+        String previous = CURRENT.get();
+        setLibraryId(libraryId);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.shelfio.shelfio.tenant;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shelfio.shelfio.dto.response.ApiResponse;
+import com.shelfio.shelfio.dto.response.ApiResponse.ErrorDetails;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Selects the library for a request from the {@code X-Library-Id} header.
+ * Requests without the header use the default library.
+ */
+public class TenantFilter extends OncePerRequestFilter {
+
+    public static final String LIBRARY_ID_HEADER = "X-Library-Id";
+
+    private final ObjectMapper objectMapper;
+
+    public TenantFilter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+
+        String libraryId = request.getHeader(LIBRARY_ID_HEADER);
+        if (libraryId == null || libraryId.isBlank()) {
+            libraryId = TenantContext.DEFAULT_LIBRARY_ID;
+        } else if (!TenantContext.isValid(libraryId)) {
+            rejectLibraryId(response, libraryId);
+            return;
+        }
+
+        TenantContext.setLibraryId(libraryId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private void rejectLibraryId(HttpServletResponse response, String libraryId) throws IOException {
+        ErrorDetails error = ErrorDetails.builder()
+                .code("INVALID_LIBRARY_ID")
+                .details(LIBRARY_ID_HEADER + " must be 1-64 letters, digits, '-' or '_', got: " + libraryId)
+                .build();
+
+        response.setStatus(HttpStatus.BAD_REQUEST.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("Invalid input provided", error));
+    }
+}
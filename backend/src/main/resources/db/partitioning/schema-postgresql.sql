@@ -0,0 +1,160 @@
+-- ==========================================
+-- Shelfio schema for PostgreSQL 12+ with books and reviews hash-partitioned by library
+-- ==========================================
+-- Used by the "partitioned" profile instead of Hibernate's ddl-auto, which cannot
+-- create partitioned tables. Every statement is idempotent, so it runs on each start.
+--
+-- Queries of one library carry "library_id = ?" (added by Hibernate for entity
+-- queries, by hand in native queries), so PostgreSQL prunes them to a single
+-- partition and each partition's indexes only cover its share of the libraries.
+--
+-- Partitioned tables need the partition key in every primary key and unique
+-- constraint, hence (library_id, book_id) and (library_id, review_id). The
+-- application still addresses rows by their globally unique, sequence-generated id.
+-- To change the partition count, recreate the tables and reload the data.
+
+CREATE TABLE IF NOT EXISTS reading_status (
+    reading_status_id BIGSERIAL PRIMARY KEY,
+    status VARCHAR(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS authors (
+    author_id BIGSERIAL PRIMARY KEY,
+    library_id VARCHAR(64) DEFAULT 'default' NOT NULL,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_authors_library_name ON authors (library_id, last_name, first_name);
+
+CREATE TABLE IF NOT EXISTS categories (
+    category_id BIGSERIAL PRIMARY KEY,
+    library_id VARCHAR(64) DEFAULT 'default' NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_categories_library_name UNIQUE (library_id, name)
+);
+
+CREATE TABLE IF NOT EXISTS books (
+    book_id BIGSERIAL NOT NULL,
+    library_id VARCHAR(64) DEFAULT 'default' NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    author_id BIGINT NOT NULL REFERENCES authors (author_id),
+    category_id BIGINT REFERENCES categories (category_id),
+    reading_status_id BIGINT REFERENCES reading_status (reading_status_id),
+    publisher VARCHAR(255),
+    isbn VARCHAR(255),
+    pages INTEGER,
+    pages_read INTEGER NOT NULL,
+    bookcover VARCHAR(255),
+    PRIMARY KEY (library_id, book_id),
+    CONSTRAINT uk_books_library_isbn UNIQUE (library_id, isbn)
+) PARTITION BY HASH (library_id);
+CREATE TABLE IF NOT EXISTS books_p00 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 0);
+CREATE TABLE IF NOT EXISTS books_p01 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 1);
+CREATE TABLE IF NOT EXISTS books_p02 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 2);
+CREATE TABLE IF NOT EXISTS books_p03 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 3);
+CREATE TABLE IF NOT EXISTS books_p04 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 4);
+CREATE TABLE IF NOT EXISTS books_p05 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 5);
+CREATE TABLE IF NOT EXISTS books_p06 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 6);
+CREATE TABLE IF NOT EXISTS books_p07 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 7);
+CREATE TABLE IF NOT EXISTS books_p08 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 8);
+CREATE TABLE IF NOT EXISTS books_p09 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 9);
+CREATE TABLE IF NOT EXISTS books_p10 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 10);
+CREATE TABLE IF NOT EXISTS books_p11 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 11);
+CREATE TABLE IF NOT EXISTS books_p12 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 12);
+CREATE TABLE IF NOT EXISTS books_p13 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 13);
+CREATE TABLE IF NOT EXISTS books_p14 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 14);
+CREATE TABLE IF NOT EXISTS books_p15 PARTITION OF books FOR VALUES WITH (MODULUS 16, REMAINDER 15);
+-- Lookups by id alone (e.g. Hibernate's UPDATE ... WHERE book_id = ?) probe each partition's index
+CREATE INDEX IF NOT EXISTS idx_books_book_id ON books (book_id);
+
+CREATE TABLE IF NOT EXISTS reviews (
+    review_id BIGSERIAL NOT NULL,
+    library_id VARCHAR(64) DEFAULT 'default' NOT NULL,
+    book_id BIGINT NOT NULL,
+    rating INTEGER NOT NULL,
+    comment VARCHAR(1000),
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (library_id, review_id),
+    FOREIGN KEY (library_id, book_id) REFERENCES books (library_id, book_id) ON DELETE CASCADE
+) PARTITION BY HASH (library_id);
+CREATE TABLE IF NOT EXISTS reviews_p00 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 0);
+CREATE TABLE IF NOT EXISTS reviews_p01 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 1);
+CREATE TABLE IF NOT EXISTS reviews_p02 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 2);
+CREATE TABLE IF NOT EXISTS reviews_p03 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 3);
+CREATE TABLE IF NOT EXISTS reviews_p04 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 4);
+CREATE TABLE IF NOT EXISTS reviews_p05 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 5);
+CREATE TABLE IF NOT EXISTS reviews_p06 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 6);
+CREATE TABLE IF NOT EXISTS reviews_p07 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 7);
+CREATE TABLE IF NOT EXISTS reviews_p08 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 8);
+CREATE TABLE IF NOT EXISTS reviews_p09 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 9);
+CREATE TABLE IF NOT EXISTS reviews_p10 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 10);
+CREATE TABLE IF NOT EXISTS reviews_p11 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 11);
+CREATE TABLE IF NOT EXISTS reviews_p12 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 12);
+CREATE TABLE IF NOT EXISTS reviews_p13 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 13);
+CREATE TABLE IF NOT EXISTS reviews_p14 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 14);
+CREATE TABLE IF NOT EXISTS reviews_p15 PARTITION OF reviews FOR VALUES WITH (MODULUS 16, REMAINDER 15);
+CREATE INDEX IF NOT EXISTS idx_reviews_library_book ON reviews (library_id, book_id);
+CREATE INDEX IF NOT EXISTS idx_reviews_review_id ON reviews (review_id);
+
+CREATE TABLE IF NOT EXISTS collections (
+    collection_id BIGSERIAL PRIMARY KEY,
+    library_id VARCHAR(64) DEFAULT 'default' NOT NULL,
+    name VARCHAR(255) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_collections_library ON collections (library_id);
+
+-- No foreign key to books: book_id alone is not unique on the partitioned table.
+-- Memberships are removed by the application before books are deleted.
+CREATE TABLE IF NOT EXISTS collection_books (
+    collection_id BIGINT NOT NULL REFERENCES collections (collection_id) ON DELETE CASCADE,
+    book_id BIGINT NOT NULL,
+    PRIMARY KEY (collection_id, book_id)
+);
+CREATE INDEX IF NOT EXISTS idx_collection_books_book ON collection_books (book_id);
+
+CREATE TABLE IF NOT EXISTS change_log (
+    change_id BIGSERIAL PRIMARY KEY,
+    library_id VARCHAR(64) DEFAULT 'default' NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    operation VARCHAR(10) NOT NULL,
+    changed_at TIMESTAMP(6) NOT NULL,
+    log_position BIGINT
+);
+CREATE INDEX IF NOT EXISTS idx_change_log_entity ON change_log (entity_type, entity_id);
+CREATE INDEX IF NOT EXISTS idx_change_log_library ON change_log (library_id, log_position);
+CREATE INDEX IF NOT EXISTS idx_change_log_position ON change_log (log_position, change_id);
+
+CREATE TABLE IF NOT EXISTS change_log_sequence (
+    sequence_id INTEGER PRIMARY KEY,
+    last_position BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS library_versions (
+    library_id VARCHAR(64) PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS progress_events (
+    event_id BIGSERIAL PRIMARY KEY,
+    library_id VARCHAR(64) DEFAULT 'default' NOT NULL,
+    book_id BIGINT NOT NULL,
+    pages_read INTEGER NOT NULL,
+    pages_read_delta INTEGER NOT NULL,
+    status VARCHAR(255),
+    occurred_at TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_progress_events_library ON progress_events (library_id, occurred_at);
+CREATE INDEX IF NOT EXISTS idx_progress_events_book ON progress_events (book_id);
+
+CREATE TABLE IF NOT EXISTS progress_rollups (
+    rollup_id BIGSERIAL PRIMARY KEY,
+    library_id VARCHAR(64) DEFAULT 'default' NOT NULL,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start DATE NOT NULL,
+    pages_read BIGINT NOT NULL,
+    books_started INTEGER NOT NULL,
+    books_finished INTEGER NOT NULL,
+    progress_updates INTEGER NOT NULL,
+    CONSTRAINT uk_progress_rollups_bucket UNIQUE (library_id, granularity, bucket_start)
+);
@@ -0,0 +1,78 @@
+package com.shelfio.shelfio.adapter.google;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shelfio.shelfio.dto.ExternalBookDto;
+import com.shelfio.shelfio.load.GoogleBooksStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GoogleBooksAdapterTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final HttpClient httpClient = HttpClient.newBuilder().executor(executor).build();
+    private GoogleBooksStub stub;
+
+    @AfterEach
+    void stop() {
+        stub.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void servesConcurrentLookupsWithTwoThreads() {
+        stub = new GoogleBooksStub(Duration.ofMillis(300));
+        GoogleBooksAdapter adapter = adapter();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Optional<ExternalBookDto>>> lookups = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            lookups.add(adapter.fetchBookByIsbnAsync(String.format("978%010d", i), Duration.ofSeconds(20)));
+        }
+        CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(lookups).allSatisfy(lookup -> assertThat(lookup.join()).isPresent());
+        // One after the other this would take a minute
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(15));
+    }
+
+    @Test
+    void failsOnceTheDeadlinePasses() {
+        stub = new GoogleBooksStub(Duration.ofSeconds(5));
+        GoogleBooksAdapter adapter = adapter();
+
+        CompletableFuture<Optional<ExternalBookDto>> lookup =
+                adapter.fetchBookByIsbnAsync("9780132350884", Duration.ofMillis(100));
+
+        assertThatThrownBy(lookup::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ResourceAccessException.class);
+    }
+
+    @Test
+    void blockingBridgeReturnsTheLookupResult() {
+        stub = new GoogleBooksStub(Duration.ZERO);
+        GoogleBooksAdapter adapter = adapter();
+
+        assertThat(adapter.fetchBookByIsbn("9780132350884"))
+                .hasValueSatisfying(book -> assertThat(book.getIsbn()).isEqualTo("9780132350884"));
+        assertThat(adapter.fetchBookByIsbn("0000000000000")).isEmpty();
+    }
+
+    private GoogleBooksAdapter adapter() {
+        return new GoogleBooksAdapter(httpClient, new ObjectMapper(), stub.baseUrl(), Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,203 @@
+package com.shelfio.shelfio.adapter.resilience;
+
+import com.shelfio.shelfio.adapter.AsyncBookDataAdapter;
+import com.shelfio.shelfio.adapter.resilience.CircuitBreaker.State;
+import com.shelfio.shelfio.dto.ExternalBookDto;
+import com.shelfio.shelfio.exception.ExternalServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResilientBookDataAdapterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ScriptedProvider provider = new ScriptedProvider();
+
+    @Test
+    void retriesTransientFailuresUntilSuccess() {
+        ResilientBookDataAdapter adapter = adapter(properties(), 100);
+        provider.fail(new ResourceAccessException("read timed out"));
+        provider.fail(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+        assertThat(adapter.fetchBookByIsbn("9780132350884")).isPresent();
+        assertThat(provider.calls).isEqualTo(3);
+        assertThat(meterRegistry.get("shelfio.book.provider.retries").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        ResilientBookDataAdapter adapter = adapter(properties(), 100);
+        provider.fail(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        assertThatThrownBy(() -> adapter.fetchBookByIsbn("9780132350884"))
+                .isInstanceOf(ExternalServiceException.class);
+        assertThat(provider.calls).isEqualTo(1);
+    }
+
+    @Test
+    void opensCircuitAndFailsFastUntilTrialCallsSucceed() {
+        BookProviderResilienceProperties properties = properties();
+        properties.getRetry().setMaxAttempts(1);
+        CircuitBreaker breaker = new CircuitBreaker(properties.getCircuitBreaker(), state -> { }, clock::get);
+        ResilientBookDataAdapter adapter = new ResilientBookDataAdapter(provider, properties, meterRegistry,
+                new TokenBucket(1000, 1000, clock::get), breaker);
+
+        for (int i = 0; i < 4; i++) {
+            provider.fail(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
+            assertThatThrownBy(() -> adapter.fetchBookByIsbn("9780132350884"))
+                    .isInstanceOf(ExternalServiceException.class);
+        }
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+
+        assertThatThrownBy(() -> adapter.fetchBookByIsbn("9780132350884"))
+                .isInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("unavailable");
+        assertThat(provider.calls).isEqualTo(4);
+        assertThat(meterRegistry.get("shelfio.book.provider.circuit.state").tag("state", "OPEN")
+                .gauge().value()).isEqualTo(1);
+
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertThat(adapter.fetchBookByIsbn("9780132350884")).isPresent();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(adapter.fetchBookByIsbn("9780132350884")).isPresent();
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void rejectsWhenNoPermitIsAvailableInTime() {
+        ResilientBookDataAdapter adapter = adapter(properties(), 1);
+
+        assertThat(adapter.fetchBookByIsbn("9780132350884")).isPresent();
+        assertThatThrownBy(() -> adapter.fetchBookByIsbn("9780132350884"))
+                .isInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("rate limit");
+        assertThat(provider.calls).isEqualTo(1);
+        assertThat(meterRegistry.get("shelfio.book.provider.rate-limit.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void retriesAsynchronousLookupsWithinTheirDeadline() {
+        ResilientBookDataAdapter adapter = adapter(properties(), 100);
+        provider.fail(new ResourceAccessException("read timed out"));
+        provider.fail(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
+
+        assertThat(adapter.fetchBookByIsbnAsync("9780132350884", Duration.ofSeconds(5)).join()).isPresent();
+        assertThat(provider.calls).isEqualTo(3);
+        assertThat(meterRegistry.get("shelfio.book.provider.retries").counter().count()).isEqualTo(2);
+
+        provider.fail(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        assertThatThrownBy(adapter.fetchBookByIsbnAsync("9780132350884", Duration.ofSeconds(5))::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ExternalServiceException.class);
+        assertThat(provider.calls).isEqualTo(4);
+    }
+
+    @Test
+    void asynchronousLookupsPassTheCircuitBreaker() {
+        BookProviderResilienceProperties properties = properties();
+        properties.getRetry().setMaxAttempts(1);
+        CircuitBreaker breaker = new CircuitBreaker(properties.getCircuitBreaker(), state -> { }, clock::get);
+        ResilientBookDataAdapter adapter = new ResilientBookDataAdapter(provider, properties, meterRegistry,
+                new TokenBucket(1000, 1000, clock::get), breaker);
+
+        for (int i = 0; i < 4; i++) {
+            provider.fail(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+            adapter.fetchBookByIsbnAsync("9780132350884", Duration.ofSeconds(5)).exceptionally(error -> null).join();
+        }
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+
+        assertThatThrownBy(adapter.fetchBookByIsbnAsync("9780132350884", Duration.ofSeconds(5))::get)
+                .hasCauseInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("unavailable");
+        assertThat(provider.calls).isEqualTo(4);
+    }
+
+    @Test
+    void asynchronousLookupsWaitForPermitsWithoutBlocking() {
+        BookProviderResilienceProperties properties = properties();
+        properties.getRateLimit().setMaxWait(Duration.ofSeconds(2));
+        ResilientBookDataAdapter adapter = new ResilientBookDataAdapter(provider, properties, meterRegistry,
+                new TokenBucket(2, 1, clock::get),
+                new CircuitBreaker(properties.getCircuitBreaker(), state -> { }, clock::get));
+
+        assertThat(adapter.fetchBookByIsbnAsync("9780132350884", Duration.ofSeconds(5)).join()).isPresent();
+        CompletableFuture<Optional<ExternalBookDto>> queued =
+                adapter.fetchBookByIsbnAsync("9780132350884", Duration.ofSeconds(5));
+
+        assertThat(queued).isNotDone();
+        assertThat(queued.join()).isPresent();
+        assertThat(provider.calls).isEqualTo(2);
+    }
+
+    private ResilientBookDataAdapter adapter(BookProviderResilienceProperties properties, int burst) {
+        return new ResilientBookDataAdapter(provider, properties, meterRegistry,
+                new TokenBucket(1, burst, clock::get),
+                new CircuitBreaker(properties.getCircuitBreaker(), state -> { }, clock::get));
+    }
+
+    private static BookProviderResilienceProperties properties() {
+        BookProviderResilienceProperties properties = new BookProviderResilienceProperties();
+        properties.getRateLimit().setMaxWait(Duration.ZERO);
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        properties.getRetry().setMaxBackoff(Duration.ofMillis(2));
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumCalls(4);
+        properties.getCircuitBreaker().setHalfOpenCalls(2);
+        return properties;
+    }
+
+    private static class ScriptedProvider implements AsyncBookDataAdapter {
+
+        private final Deque<RestClientException> failures = new ArrayDeque<>();
+        private volatile int calls;
+
+        void fail(RestClientException failure) {
+            failures.add(failure);
+        }
+
+        @Override
+        public Optional<ExternalBookDto> fetchBookByIsbn(String isbn) {
+            calls++;
+            RestClientException failure = failures.poll();
+            if (failure != null) {
+                throw failure;
+            }
+            return Optional.of(ExternalBookDto.builder().isbn(isbn).build());
+        }
+
+        @Override
+        public CompletableFuture<Optional<ExternalBookDto>> fetchBookByIsbnAsync(String isbn, Duration deadline) {
+            try {
+                return CompletableFuture.completedFuture(fetchBookByIsbn(isbn));
+            } catch (RestClientException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+
+        @Override
+        public Duration getDefaultDeadline() {
+            return Duration.ofSeconds(5);
+        }
+
+        @Override
+        public String getProviderName() {
+            return "scripted";
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.shelfio.shelfio.batch;
+
+import com.shelfio.shelfio.dto.request.BatchRequestItem;
+import com.shelfio.shelfio.dto.response.BatchResultDto;
+import com.shelfio.shelfio.service.BatchService;
+import com.shelfio.shelfio.service.BookService;
+import com.shelfio.shelfio.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+@ActiveProfiles("h2")
+@SpringBootTest
+class BatchServiceTest {
+
+    @Autowired
+    private BatchService batchService;
+
+    @Autowired
+    private BookService bookService;
+
+    @SpyBean
+    private BatchOperations batchOperations;
+
+    @Test
+    void runsReadsInParallelInTheCallersLibrary() {
+        List<BatchResultDto> results = TenantContext.callInLibrary("batch-a", () -> {
+            createBook("Middlemarch", "Fiction");
+            createBook("Silas Marner", "Fiction");
+            return batchService.execute(List.of(
+                    item("count", "/api/books/count"),
+                    item("recent", "/api/books/recent"),
+                    item("fiction", "/api/books/category/Fiction"),
+                    item("summaries", "/api/collections/summaries?covers=2"),
+                    item("missing", "/api/books/latest/nowhere"),
+                    item("invalid", "/api/reviews/book/abc")), false);
+        });
+
+        assertThat(results).extracting(BatchResultDto::getId)
+                .containsExactly("count", "recent", "fiction", "summaries", "missing", "invalid");
+        assertThat(results).extracting(BatchResultDto::getStatus)
+                .containsExactly(200, 200, 200, 200, 404, 400);
+        assertThat(results.get(0).getBody().getData()).isEqualTo(2L);
+        assertThat((List<?>) results.get(2).getBody().getData()).hasSize(2);
+        assertThat(results.get(4).getBody().getError().getCode()).isEqualTo("RESOURCE_NOT_FOUND");
+    }
+
+    @Test
+    void runsConsistentBatchesInOneSnapshot() {
+        AtomicBoolean written = new AtomicBoolean();
+        // Another client adds a book and commits right after the first sub-request
+        doAnswer(invocation -> {
+            Object response = invocation.callRealMethod();
+            if (written.compareAndSet(false, true)) {
+                CompletableFuture.runAsync(() -> TenantContext.callInLibrary("batch-b",
+                        () -> createBook("Romola", "Fiction"))).join();
+            }
+            return response;
+        }).when(batchOperations).invoke(anyString());
+
+        List<BatchResultDto> results = TenantContext.callInLibrary("batch-b", () -> {
+            Long bookId = createBook("Adam Bede", "Fiction");
+            return batchService.execute(List.of(
+                    item(null, "/api/books/count"),
+                    item(null, "/api/books"),
+                    item(null, "/api/reviews/book/" + bookId),
+                    item(null, "/api/reviews/999999"),
+                    item(null, "/api/books/count")), true);
+        });
+
+        assertThat(written).isTrue();
+        assertThat(results).extracting(BatchResultDto::getStatus).containsExactly(200, 200, 200, 404, 200);
+        assertThat(results.get(0).getBody().getData()).isEqualTo(1L);
+        assertThat((List<?>) results.get(1).getBody().getData()).hasSize(1);
+        assertThat(results.get(4).getBody().getData()).isEqualTo(1L);
+        assertThat(TenantContext.callInLibrary("batch-b", bookService::getBooksCount)).isEqualTo(2L);
+    }
+
+    private Long createBook(String title, String category) {
+        return bookService.createBookManually(
+                title, "George", "Eliot", category, "Not started", 300, null, "Test Press", null).getId();
+    }
+
+    private static BatchRequestItem item(String id, String path) {
+        return new BatchRequestItem(id, path);
+    }
+}
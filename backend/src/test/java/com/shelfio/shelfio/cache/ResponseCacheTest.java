@@ -0,0 +1,130 @@
+package com.shelfio.shelfio.cache;
+
+import com.shelfio.shelfio.service.BookService;
+import com.shelfio.shelfio.tenant.TenantContext;
+import com.shelfio.shelfio.tenant.TenantFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("h2")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ResponseCacheTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void servesRepeatedReadsFromCacheUntilTheLibraryChanges() throws Exception {
+        String library = "response-cache";
+        addBook(library, "Dune");
+
+        String first = body(get(library, "/api/books", null));
+        double hitsBefore = hits();
+        String second = body(get(library, "/api/books", null));
+
+        assertThat(second).isEqualTo(first).contains("Dune");
+        assertThat(hits()).isEqualTo(hitsBefore + 1);
+
+        // Changes in other libraries keep the cached response
+        addBook("response-cache-other", "Emma");
+        assertThat(body(get(library, "/api/books", null))).isEqualTo(first);
+        assertThat(hits()).isEqualTo(hitsBefore + 2);
+
+        addBook(library, "Ulysses");
+        assertThat(body(get(library, "/api/books", null))).contains("Dune", "Ulysses");
+        assertThat(body(get(library, "/api/books/count", null))).contains("\"data\":2");
+    }
+
+    @Test
+    void changesCommittedByOtherInstancesInvalidateCachedResponses() throws Exception {
+        String library = "response-cache-shared";
+        addBook(library, "Middlemarch");
+        get(library, "/api/books/count", null);
+        double hitsBefore = hits();
+
+        get(library, "/api/books/count", null);
+        assertThat(hits()).isEqualTo(hitsBefore + 1);
+
+        // What another instance's write transaction does besides changing the data
+        jdbcTemplate.update("UPDATE library_versions SET version = version + 1 WHERE library_id = ?", library);
+
+        get(library, "/api/books/count", null);
+        assertThat(hits()).isEqualTo(hitsBefore + 1);
+        get(library, "/api/books/count", null);
+        assertThat(hits()).isEqualTo(hitsBefore + 2);
+    }
+
+    @Test
+    void servesGzipCopyToClientsAcceptingGzip() throws Exception {
+        String library = "response-cache-gzip";
+        for (int i = 0; i < 20; i++) {
+            addBook(library, "Compressed " + i);
+        }
+
+        HttpResponse<byte[]> plain = get(library, "/api/books", null);
+        HttpResponse<byte[]> compressed = get(library, "/api/books", "gzip, deflate");
+
+        assertThat(plain.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(compressed.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(compressed.headers().allValues("Vary")).anySatisfy(
+                vary -> assertThat(vary).contains("Accept-Encoding"));
+        assertThat(compressed.body().length).isLessThan(plain.body().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.body()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.body());
+        }
+    }
+
+    private void addBook(String library, String title) {
+        TenantContext.callInLibrary(library, () -> bookService.createBookManually(
+                title, "Jane", "Austen", "Fiction", "Reading", 300, null, null, null));
+    }
+
+    private double hits() {
+        return meterRegistry.counter("shelfio.response-cache.requests", "result", "hit").count();
+    }
+
+    private HttpResponse<byte[]> get(String library, String path, String acceptEncoding)
+            throws IOException, InterruptedException {
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", "application/json")
+                .header(TenantFilter.LIBRARY_ID_HEADER, library);
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response;
+    }
+
+    private static String body(HttpResponse<byte[]> response) {
+        return new String(response.body(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,150 @@
+package com.shelfio.shelfio.cache;
+
+import com.shelfio.shelfio.dto.response.BookResponseDto;
+import com.shelfio.shelfio.entity.Book;
+import com.shelfio.shelfio.entity.Review;
+import com.shelfio.shelfio.progress.PagesReadWriteBuffer;
+import com.shelfio.shelfio.repository.BookRepository;
+import com.shelfio.shelfio.repository.CategoryRepository;
+import com.shelfio.shelfio.service.BookService;
+import com.shelfio.shelfio.service.CollectionService;
+import com.shelfio.shelfio.service.ReviewService;
+import com.shelfio.shelfio.tenant.TenantContext;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("h2")
+@SpringBootTest(properties = {
+        "shelfio.progress.write-behind.enabled=true",
+        "shelfio.progress.write-behind.flush-interval=1h"
+})
+class SecondLevelCacheTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private CollectionService collectionService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PagesReadWriteBuffer pagesReadWriteBuffer;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SessionFactoryImplementor sessionFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @Test
+    void servesRepeatedBookAndReviewLookupsFromCache() {
+        Long bookId = createBook("Cached").getId();
+        reviewService.addReview(bookId, 4, "Good");
+
+        int firstReviews = inReadOnlyTransaction(() -> bookRepository.findById(bookId).orElseThrow().getReviews().size());
+        long hitsBefore = statistics.getSecondLevelCacheHitCount();
+        int secondReviews = inReadOnlyTransaction(() -> bookRepository.findById(bookId).orElseThrow().getReviews().size());
+
+        assertThat(firstReviews).isEqualTo(1);
+        assertThat(secondReviews).isEqualTo(1);
+        // Book, its reviews collection and the review itself
+        assertThat(statistics.getSecondLevelCacheHitCount() - hitsBefore).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void cachesCategoryLookupQuery() {
+        createBook("Query Cached");
+        categoryRepository.findByNameIgnoreCase("History");
+        long hitsBefore = statistics.getQueryCacheHitCount();
+
+        assertThat(categoryRepository.findByNameIgnoreCase("History")).isPresent();
+        assertThat(statistics.getQueryCacheHitCount()).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    void evictsBooksWrittenByWriteBehindFlush() {
+        Long bookId = createBook("Flushed").getId();
+        inReadOnlyTransaction(() -> bookRepository.findById(bookId));
+        assertThat(isCached(Book.class, bookId)).isTrue();
+
+        bookService.updatePagesRead(bookId, 42);
+        pagesReadWriteBuffer.flush();
+
+        assertThat(isCached(Book.class, bookId)).isFalse();
+        assertThat(inReadOnlyTransaction(() -> bookRepository.findById(bookId).orElseThrow().getPagesRead()))
+                .isEqualTo(42);
+    }
+
+    @Test
+    void evictsReviewsCascadedByBookDelete() {
+        Long bookId = createBook("Deleted").getId();
+        Long reviewId = reviewService.addReview(bookId, 2, "Meh").getReviewId();
+        reviewService.getReviewById(reviewId);
+        assertThat(isCached(Review.class, reviewId)).isTrue();
+
+        bookService.deleteBooks(List.of(bookId));
+
+        assertThat(isCached(Review.class, reviewId)).isFalse();
+    }
+
+    @Test
+    void membershipChangesKeepBooksCached() {
+        Long bookId = createBook("Shelved").getId();
+        Long collectionId = collectionService.createCollection("Cache Shelf").getId();
+        inReadOnlyTransaction(() -> bookRepository.findById(bookId));
+
+        collectionService.addBooksToCollection(collectionId, List.of(bookId));
+
+        assertThat(isCached(Book.class, bookId)).isTrue();
+    }
+
+    private BookResponseDto createBook(String title) {
+        return bookService.createBookManually(
+                title, "Ada", "Lovelace", "History", "Reading", 300, null, null, null);
+    }
+
+    // Cache keys include the library, which JPA's Cache.contains does not pass
+    private boolean isCached(Class<?> entityClass, Long id) {
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass);
+        EntityDataAccess access = persister.getCacheAccessStrategy();
+        return access.contains(access.generateCacheKey(id, persister, sessionFactory, TenantContext.getLibraryId()));
+    }
+
+    private <T> T inReadOnlyTransaction(Supplier<T> work) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> work.get());
+    }
+}
@@ -0,0 +1,159 @@
+package com.shelfio.shelfio.datasource;
+
+import com.shelfio.shelfio.recommendation.SimilarBooksIndex;
+import com.shelfio.shelfio.service.BookService;
+import com.shelfio.shelfio.service.RecommendationService;
+import com.shelfio.shelfio.tenant.TenantContext;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("h2")
+@SpringBootTest(properties = {
+        "shelfio.datasource.replica.enabled=true",
+        "shelfio.datasource.replica.url=jdbc:h2:mem:shelfio-replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "shelfio.datasource.replica.username=sa",
+        "shelfio.datasource.replica.password="
+})
+class ReadWriteRoutingTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private SimilarBooksIndex similarBooksIndex;
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() {
+        assertThat(connectionUrl(true)).contains("shelfio-replica");
+        assertThat(connectionUrl(false)).doesNotContain("shelfio-replica");
+    }
+
+    @Test
+    void forcedPrimaryOverridesReadOnlyTransactions() {
+        ReadWriteRoutingDataSource.forcePrimary();
+        try {
+            assertThat(connectionUrl(true)).doesNotContain("shelfio-replica");
+        } finally {
+            ReadWriteRoutingDataSource.clearForcedPrimary();
+        }
+        assertThat(connectionUrl(true)).contains("shelfio-replica");
+    }
+
+    @Test
+    void keepsClientOnPrimaryAfterWrite() throws Exception {
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties();
+        properties.setStickyWindow(Duration.ofMinutes(1));
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(properties);
+        List<Boolean> primaryForced = new ArrayList<>();
+
+        filter.doFilter(request("GET", "reader"), new MockHttpServletResponse(), recording(primaryForced));
+        filter.doFilter(request("PUT", "writer"), new MockHttpServletResponse(), recording(primaryForced));
+        filter.doFilter(request("GET", "writer"), new MockHttpServletResponse(), recording(primaryForced));
+        filter.doFilter(request("GET", "reader"), new MockHttpServletResponse(), recording(primaryForced));
+
+        assertThat(primaryForced).containsExactly(false, true, true, false);
+        assertThat(ReadWriteRoutingDataSource.isPrimaryForced()).isFalse();
+    }
+
+    @Test
+    void forgetsClientsThatWroteLongestAgoBeyondTheLimit() throws Exception {
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties();
+        properties.setStickyWindow(Duration.ofMinutes(1));
+        properties.setMaxTrackedClients(2);
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(properties);
+        List<Boolean> primaryForced = new ArrayList<>();
+
+        for (String client : List.of("first", "second", "third")) {
+            filter.doFilter(request("PUT", client), new MockHttpServletResponse(), recording(new ArrayList<>()));
+        }
+        for (String client : List.of("first", "second", "third")) {
+            filter.doFilter(request("GET", client), new MockHttpServletResponse(), recording(primaryForced));
+        }
+
+        assertThat(primaryForced).containsExactly(false, true, true);
+    }
+
+    @Test
+    void buildsSimilarBooksFromThePrimaryInsideReadOnlyTransactions() {
+        String library = "routing-similar";
+        Long dune = TenantContext.callInLibrary(library, () -> createBook("Dune"));
+        Long messiah = TenantContext.callInLibrary(library, () -> createBook("Dune Messiah"));
+        copyPrimaryToReplica();
+        // Committed on the primary only, as if the replica lagged behind
+        Long children = TenantContext.callInLibrary(library, () -> createBook("Children of Dune"));
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TenantContext.callInLibrary(library, () -> readOnly.execute(
+                status -> recommendationService.getSimilarBooks(dune, null)));
+
+        long[] neighbours = TenantContext.callInLibrary(library,
+                () -> similarBooksIndex.neighbours(dune, 10).bookIds());
+        assertThat(Arrays.stream(neighbours).boxed().toList()).contains(messiah, children);
+    }
+
+    private Long createBook(String title) {
+        return bookService.createBookManually(
+                title, "Frank", "Herbert", "Space Opera", "Not started", 300, null, null, null).getId();
+    }
+
+    private void copyPrimaryToReplica() {
+        List<String> script = jdbcTemplate.queryForList("SCRIPT", String.class);
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:shelfio-replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                        + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1", "sa", ""));
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+    }
+
+    private String connectionUrl(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getURL()));
+    }
+
+    private static MockHttpServletRequest request(String method, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/books");
+        request.addHeader(ReadYourWritesFilter.CLIENT_ID_HEADER, clientId);
+        return request;
+    }
+
+    private static MockFilterChain recording(List<Boolean> primaryForced) {
+        return new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                primaryForced.add(ReadWriteRoutingDataSource.isPrimaryForced());
+            }
+        };
+    }
+}
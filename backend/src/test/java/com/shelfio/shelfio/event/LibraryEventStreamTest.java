@@ -0,0 +1,99 @@
+package com.shelfio.shelfio.event;
+
+import com.shelfio.shelfio.service.BookService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("h2")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LibraryEventStreamTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private LibraryEventBroadcaster broadcaster;
+
+    @Autowired
+    private EventStreamProperties properties;
+
+    @Test
+    void streamsCommittedChanges() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events"))
+                .header("Accept", "text/event-stream")
+                .timeout(Duration.ofSeconds(10))
+                .build();
+        HttpResponse<Stream<String>> response = HttpClient.newHttpClient()
+                .send(request, HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("text/event-stream"));
+
+        try (Stream<String> lines = response.body()) {
+            Iterator<String> stream = lines.iterator();
+            assertThat(stream.next()).isEqualTo(":connected");
+
+            Long bookId = bookService.createBookManually(
+                    "Streamed", "Ada", "Lovelace", "History", "Reading", 100, null, null, null).getId();
+
+            assertThat(nextData(stream, "BOOK_ADDED"))
+                    .contains("\"type\":\"BOOK_ADDED\"")
+                    .contains("\"ids\":[" + bookId + "]");
+
+            bookService.updatePagesRead(bookId, 12);
+            assertThat(nextData(stream, "PROGRESS_CHANGED")).contains("\"ids\":[" + bookId + "]");
+        }
+    }
+
+    @Test
+    void refusesSubscribersBeyondTheLimitWithRetryAfter() throws Exception {
+        int maxSubscribers = properties.getMaxSubscribers();
+        properties.setMaxSubscribers(broadcaster.subscriberCount());
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events"))
+                    .header("Accept", "text/event-stream")
+                    .timeout(Duration.ofSeconds(10))
+                    .build();
+            HttpResponse<String> response = HttpClient.newHttpClient()
+                    .send(request, HttpResponse.BodyHandlers.ofString());
+
+            assertThat(response.statusCode()).isEqualTo(503);
+            assertThat(response.headers().firstValue("Retry-After")).hasValue("5");
+        } finally {
+            properties.setMaxSubscribers(maxSubscribers);
+        }
+    }
+
+    // Joins the data lines of the next event with the given name
+    private static String nextData(Iterator<String> stream, String eventName) {
+        boolean inEvent = false;
+        StringBuilder data = new StringBuilder();
+        while (stream.hasNext()) {
+            String line = stream.next();
+            if (line.equals("event:" + eventName)) {
+                inEvent = true;
+            } else if (inEvent && line.startsWith("data:")) {
+                data.append(line.substring("data:".length()).trim());
+            } else if (inEvent && line.isEmpty()) {
+                // Ignore pretty printing
+                return data.toString().replaceAll("\\s", "");
+            }
+        }
+        throw new AssertionError("Stream ended before " + eventName);
+    }
+}
@@ -0,0 +1,136 @@
+package com.shelfio.shelfio.leaderboard;
+
+import com.shelfio.shelfio.dto.response.LeaderboardEntryDto;
+import com.shelfio.shelfio.service.BookService;
+import com.shelfio.shelfio.service.LeaderboardService;
+import com.shelfio.shelfio.service.ReviewService;
+import com.shelfio.shelfio.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("h2")
+@SpringBootTest
+class LeaderboardsTest {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private Leaderboards leaderboards;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void ranksByAverageRatingAndReviewCount() {
+        inLibrary("board-a", () -> {
+            Long emma = createBook("Emma", "Romance");
+            Long persuasion = createBook("Persuasion", "Romance");
+            Long dracula = createBook("Dracula", "Horror");
+            createBook("Unreviewed", "Horror");
+
+            reviewService.addReview(emma, 4, null);
+            reviewService.addReview(emma, 4, null);
+            reviewService.addReview(emma, 3, null);
+            Long persuasionReview = reviewService.addReview(persuasion, 3, null).getReviewId();
+            reviewService.addReview(dracula, 4, null);
+            reviewService.addReview(dracula, 5, null);
+
+            assertThat(ids(LeaderboardMetric.TOP_RATED, null, null)).containsExactly(dracula, emma, persuasion);
+            assertThat(ids(LeaderboardMetric.MOST_REVIEWED, null, null)).containsExactly(emma, dracula, persuasion);
+            assertThat(ids(LeaderboardMetric.TOP_RATED, "romance", null)).containsExactly(emma, persuasion);
+
+            reviewService.updateReview(persuasionReview, 5, null);
+            assertThat(ids(LeaderboardMetric.TOP_RATED, "Romance", null)).containsExactly(persuasion, emma);
+
+            bookService.updateReadingStatus(dracula, "Finished");
+            assertThat(ids(LeaderboardMetric.MOST_REVIEWED, null, "Finished")).containsExactly(dracula);
+            assertThat(ids(LeaderboardMetric.MOST_REVIEWED, "Horror", "Not started")).isEmpty();
+
+            reviewService.deleteReview(persuasionReview);
+            bookService.deleteBook(dracula);
+            assertThat(ids(LeaderboardMetric.TOP_RATED, null, null)).containsExactly(emma);
+            return null;
+        });
+
+        // Another library has its own leaderboards
+        assertThat(inLibrary("board-b", () -> ids(LeaderboardMetric.TOP_RATED, null, null))).isEmpty();
+    }
+
+    @Test
+    void rebuildMatchesIncrementalUpdates() {
+        List<LeaderboardEntryDto> incremental = inLibrary("board-c", () -> {
+            Long first = createBook("Ulysses", "Modernism");
+            Long second = createBook("Dubliners", "Modernism");
+            List<Long> reviews = List.of(
+                    reviewService.addReview(first, 2, null).getReviewId(),
+                    reviewService.addReview(first, 5, null).getReviewId(),
+                    reviewService.addReview(second, 4, null).getReviewId(),
+                    reviewService.addReview(second, 1, null).getReviewId());
+            reviewService.deleteReviews(List.of(reviews.get(0), reviews.get(3)));
+            return leaderboardService.getLeaderboard(LeaderboardMetric.TOP_RATED, null, null, null);
+        });
+        assertThat(incremental).extracting(LeaderboardEntryDto::getAverageRating).containsExactly(5.0, 4.0);
+
+        leaderboards.rebuild();
+        assertThat(inLibrary("board-c",
+                () -> leaderboardService.getLeaderboard(LeaderboardMetric.TOP_RATED, null, null, null)))
+                .isEqualTo(incremental);
+    }
+
+    @Test
+    void rebuildBetweenCommitAndUpdateCountsTheChangeOnce() {
+        List<LeaderboardEntryDto> board = inLibrary("board-d", () -> {
+            Long book = createBook("Beloved", "Fiction");
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                // Runs after the commit, before the leaderboards apply the new review
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        CompletableFuture.runAsync(leaderboards::rebuild).join();
+                    }
+                });
+                reviewService.addReview(book, 4, null);
+            });
+            return leaderboardService.getLeaderboard(LeaderboardMetric.MOST_REVIEWED, null, null, null);
+        });
+
+        assertThat(board).singleElement().satisfies(entry -> {
+            assertThat(entry.getReviewCount()).isEqualTo(1);
+            assertThat(entry.getAverageRating()).isEqualTo(4.0);
+        });
+    }
+
+    private List<Long> ids(LeaderboardMetric metric, String category, String status) {
+        return leaderboardService.getLeaderboard(metric, category, status, null).stream()
+                .map(LeaderboardEntryDto::getBookId)
+                .toList();
+    }
+
+    private Long createBook(String title, String category) {
+        return bookService.createBookManually(
+                title, "Test", "Author", category, "Not started", 300, null, "Test Press", null).getId();
+    }
+
+    private static <T> T inLibrary(String libraryId, Supplier<T> work) {
+        return TenantContext.callInLibrary(libraryId, work);
+    }
+}
@@ -0,0 +1,101 @@
+package com.shelfio.shelfio.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the Google Books volumes API that replays a recorded
+ * response with a configurable latency.
+ *
+ * <p>The recorded ISBN and title are replaced with the requested ISBN so every
+ * lookup yields a distinct book.
+ */
+public class GoogleBooksStub implements AutoCloseable {
+
+    private static final String RECORDED_ISBN = "9780132350884";
+    private static final String RECORDED_TITLE = "\"Clean Code\"";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String volumeTemplate;
+    private final String noItems;
+    private final Duration latency;
+    private final AtomicLong requests = new AtomicLong();
+
+    public GoogleBooksStub(Duration latency) {
+        this.latency = latency;
+        this.volumeTemplate = read("/payloads/google-books-volume.json");
+        this.noItems = read("/payloads/google-books-no-items.json");
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/volumes", this::handle);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        String query = exchange.getRequestURI().getQuery();
+        String isbn = query != null && query.startsWith("q=isbn:") ? query.substring("q=isbn:".length()) : "";
+
+        // ISBNs starting with 000 simulate an unknown book
+        String body = isbn.isEmpty() || isbn.startsWith("000")
+                ? noItems
+                : volumeTemplate
+                        .replace(RECORDED_ISBN, isbn)
+                        .replace(RECORDED_TITLE, "\"Clean Code " + isbn + "\"");
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String read(String resource) {
+        try (InputStream in = GoogleBooksStub.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing recorded response: " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
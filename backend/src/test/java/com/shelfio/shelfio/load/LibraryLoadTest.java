@@ -0,0 +1,160 @@
+package com.shelfio.shelfio.load;
+
+import com.shelfio.shelfio.dto.response.BookResponseDto;
+import com.shelfio.shelfio.load.LoadDriver.Endpoint;
+import com.shelfio.shelfio.load.LoadDriver.EndpointStats;
+import com.shelfio.shelfio.load.LoadDriver.Report;
+import com.shelfio.shelfio.service.BookService;
+import com.shelfio.shelfio.service.CollectionService;
+import com.shelfio.shelfio.service.ReviewService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mixed read/write load against the full application stack, backed by H2 in
+ * PostgreSQL mode and a local Google Books stub.
+ *
+ * <p>Run with {@code mvn -Pload-test test}. Tunables (system properties):
+ * {@code loadtest.concurrency}, {@code loadtest.warmup}, {@code loadtest.duration}
+ * (seconds), {@code loadtest.books} and {@code loadtest.google-books.latency-ms}.
+ */
+@Tag("load")
+@ActiveProfiles({"h2", "loadtest"})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LibraryLoadTest {
+
+    private static final String[] STATUSES = {"Not started", "Reading", "Finished"};
+    private static final String[] CATEGORIES = {"Fantasy", "Science-Fiction", "History", "Biography"};
+
+    private static final GoogleBooksStub GOOGLE_BOOKS = new GoogleBooksStub(
+            Duration.ofMillis(Long.getLong("loadtest.google-books.latency-ms", 100)));
+
+    @DynamicPropertySource
+    static void googleBooks(DynamicPropertyRegistry registry) {
+        registry.add("shelfio.google-books.base-url", GOOGLE_BOOKS::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        GOOGLE_BOOKS.close();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CollectionService collectionService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    private long[] bookIds;
+
+    @BeforeEach
+    void seedLibrary() {
+        int books = Integer.getInteger("loadtest.books", 200);
+        Long favorites = collectionService.createCollection("Load Test Shelf").getId();
+
+        List<Long> ids = new ArrayList<>(books);
+        for (int i = 0; i < books; i++) {
+            BookResponseDto book = bookService.createBookManually(
+                    "Seed Book " + i,
+                    "Author" + i % 40,
+                    "Lastname" + i % 40,
+                    CATEGORIES[i % CATEGORIES.length],
+                    STATUSES[i % STATUSES.length],
+                    400,
+                    String.format("979%010d", i),
+                    "Seed Press",
+                    null);
+            for (int r = 0; r < i % 4; r++) {
+                reviewService.addReview(book.getId(), 1 + r, "Seed review " + r);
+            }
+            if (i % 5 == 0) {
+                collectionService.addBookToCollection(favorites, book.getId());
+            }
+            ids.add(book.getId());
+        }
+        // The recorded Google Books response always names the same author and category.
+        // Seed them so concurrent ISBN adds look them up rather than racing to create them.
+        ids.add(bookService.createBookManually(
+                "Refactoring", "Robert", "C. Martin", "Computers", "Finished",
+                448, null, "Seed Press", null).getId());
+
+        bookIds = ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Test
+    void mixedLibraryWorkload() throws Exception {
+        AtomicLong isbnSequence = new AtomicLong();
+
+        List<Endpoint> scenario = List.of(
+                get("browse", "/api/books", 10),
+                get("browse", "/api/books/latest", 5),
+                get("browse", "/api/books/recent", 5),
+                get("browse", "/api/books/count", 5),
+                get("browse", "/api/collections", 5),
+                get("filter", "/api/books/status/Reading", 5),
+                get("filter", "/api/books/category/Fantasy", 5),
+                new Endpoint("add-by-isbn POST /api/books/isbn/{isbn}", "POST",
+                        () -> "/api/books/isbn/978" + String.format("%010d", isbnSequence.incrementAndGet()),
+                        null, 2),
+                new Endpoint("progress PUT /api/books/{id}/pages-read", "PUT",
+                        () -> "/api/books/" + randomBookId() + "/pages-read",
+                        () -> "{\"pagesRead\":" + ThreadLocalRandom.current().nextInt(400) + "}", 8),
+                new Endpoint("progress PUT /api/books/{id}/status", "PUT",
+                        () -> "/api/books/" + randomBookId() + "/status",
+                        () -> "{\"status\":\"" + STATUSES[ThreadLocalRandom.current().nextInt(3)] + "\"}", 2),
+                new Endpoint("review POST /api/books/{id}/review", "POST",
+                        () -> "/api/books/" + randomBookId() + "/review",
+                        () -> "{\"rating\":" + (1 + ThreadLocalRandom.current().nextInt(5))
+                                + ",\"comment\":\"Load test review\"}", 3));
+
+        LoadDriver driver = new LoadDriver("http://localhost:" + port, scenario);
+        Report report = driver.run(
+                "library-mixed",
+                Integer.getInteger("loadtest.concurrency", 32),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup", 5)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration", 20)));
+
+        System.out.print(report.toTable());
+        Path out = Path.of("target", "load", "library-mixed.json");
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, report.toJson());
+
+        assertThat(GOOGLE_BOOKS.requestCount()).isPositive();
+        for (EndpointStats stats : report.endpoints()) {
+            assertThat(stats.requests()).as("requests for %s", stats.name()).isPositive();
+            assertThat(stats.errors()).as("server errors for %s", stats.name()).isZero();
+        }
+    }
+
+    private long randomBookId() {
+        return bookIds[ThreadLocalRandom.current().nextInt(bookIds.length)];
+    }
+
+    private static Endpoint get(String scenario, String path, int weight) {
+        return new Endpoint(scenario + " GET " + path, "GET", () -> path, null, weight);
+    }
+}
@@ -0,0 +1,289 @@
+package com.shelfio.shelfio.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop HTTP load driver with per-endpoint throughput and latency percentiles.
+ *
+ * <p>Uses only the JDK so it can be run against any running instance:
+ * <pre>
+ * java -cp target/test-classes com.shelfio.shelfio.load.LoadDriver \
+ *     --base-url http://localhost:8080 --concurrency 200 --duration 30 --warmup 10 \
+ *     --endpoints "GET /api/books,GET /api/books/count,GET /api/collections" \
+ *     --out target/load-report.json
+ * </pre>
+ */
+public class LoadDriver {
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final List<Endpoint> endpoints;
+    private final int totalWeight;
+
+    public LoadDriver(String baseUrl, List<Endpoint> endpoints) {
+        this.baseUrl = baseUrl;
+        this.endpoints = List.copyOf(endpoints);
+        this.totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * One request type in the mix. Path and body are produced per request so
+     * scenarios can pick random ids or generate unique values.
+     */
+    public record Endpoint(String name, String method, Supplier<String> path, Supplier<String> body, int weight) {
+
+        public Endpoint(String method, String path) {
+            this(method + " " + path, method, () -> path, null, 1);
+        }
+    }
+
+    public record EndpointStats(String name, long requests, long errors, double throughput,
+                                double p50Ms, double p90Ms, double p99Ms, double maxMs) {
+    }
+
+    public record Report(String label, int concurrency, long durationSeconds, List<EndpointStats> endpoints) {
+
+        public double totalThroughput() {
+            return endpoints.stream().mapToDouble(EndpointStats::throughput).sum();
+        }
+
+        public String toJson() {
+            StringBuilder json = new StringBuilder();
+            json.append("{\"label\":\"").append(label).append("\",")
+                    .append("\"concurrency\":").append(concurrency).append(',')
+                    .append("\"durationSeconds\":").append(durationSeconds).append(',')
+                    .append("\"throughput\":").append(format(totalThroughput())).append(',')
+                    .append("\"endpoints\":[");
+            for (int i = 0; i < endpoints.size(); i++) {
+                EndpointStats s = endpoints.get(i);
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append("{\"name\":\"").append(s.name()).append("\",")
+                        .append("\"requests\":").append(s.requests()).append(',')
+                        .append("\"errors\":").append(s.errors()).append(',')
+                        .append("\"throughput\":").append(format(s.throughput())).append(',')
+                        .append("\"p50Ms\":").append(format(s.p50Ms())).append(',')
+                        .append("\"p90Ms\":").append(format(s.p90Ms())).append(',')
+                        .append("\"p99Ms\":").append(format(s.p99Ms())).append(',')
+                        .append("\"maxMs\":").append(format(s.maxMs())).append('}');
+            }
+            return json.append("]}").toString();
+        }
+
+        public String toTable() {
+            StringBuilder table = new StringBuilder();
+            table.append(String.format("%n== %s (concurrency=%d, duration=%ds) ==%n",
+                    label, concurrency, durationSeconds));
+            table.append(String.format("%-40s %9s %7s %10s %9s %9s %9s %9s%n",
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+            for (EndpointStats s : endpoints) {
+                table.append(String.format("%-40s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                        s.name(), s.requests(), s.errors(), s.throughput(),
+                        s.p50Ms(), s.p90Ms(), s.p99Ms(), s.maxMs()));
+            }
+            table.append(String.format("%-40s %38.1f%n", "total", totalThroughput()));
+            return table.toString();
+        }
+
+        private static String format(double value) {
+            return String.format(Locale.ROOT, "%.3f", value);
+        }
+    }
+
+    /**
+     * Runs the endpoint mix with {@code concurrency} closed-loop workers. Requests
+     * issued during the warmup window are discarded from the report.
+     */
+    public Report run(String label, int concurrency, Duration warmup, Duration duration)
+            throws InterruptedException {
+
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+
+        List<Worker> workers = new ArrayList<>(concurrency);
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker(warmupEnd, end, done);
+            workers.add(worker);
+            Thread thread = new Thread(worker, "load-worker-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+
+        double seconds = duration.toNanos() / 1e9;
+        List<EndpointStats> stats = new ArrayList<>();
+        for (int e = 0; e < endpoints.size(); e++) {
+            LongSamples merged = new LongSamples();
+            long errors = 0;
+            for (Worker worker : workers) {
+                merged.addAll(worker.latencies[e]);
+                errors += worker.errors[e];
+            }
+            long[] sorted = merged.sorted();
+            stats.add(new EndpointStats(
+                    endpoints.get(e).name(),
+                    sorted.length,
+                    errors,
+                    sorted.length / seconds,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.90),
+                    percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6));
+        }
+        return new Report(label, concurrency, duration.toSeconds(), stats);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    private int pickEndpoint() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < endpoints.size(); i++) {
+            roll -= endpoints.get(i).weight();
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return endpoints.size() - 1;
+    }
+
+    private HttpRequest buildRequest(Endpoint endpoint) {
+        HttpRequest.BodyPublisher body = endpoint.body() == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(endpoint.body().get());
+        return HttpRequest.newBuilder(URI.create(baseUrl + endpoint.path().get()))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .method(endpoint.method(), body)
+                .build();
+    }
+
+    private final class Worker implements Runnable {
+
+        private final long warmupEnd;
+        private final long end;
+        private final CountDownLatch done;
+        private final LongSamples[] latencies;
+        private final long[] errors;
+
+        private Worker(long warmupEnd, long end, CountDownLatch done) {
+            this.warmupEnd = warmupEnd;
+            this.end = end;
+            this.done = done;
+            this.latencies = new LongSamples[endpoints.size()];
+            this.errors = new long[endpoints.size()];
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = new LongSamples();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                long now;
+                while ((now = System.nanoTime()) < end) {
+                    int e = pickEndpoint();
+                    boolean ok;
+                    try {
+                        HttpResponse<Void> response =
+                                client.send(buildRequest(endpoints.get(e)), HttpResponse.BodyHandlers.discarding());
+                        ok = response.statusCode() < 500;
+                    } catch (IOException ex) {
+                        ok = false;
+                    }
+                    long elapsed = System.nanoTime() - now;
+                    if (now >= warmupEnd) {
+                        latencies[e].add(elapsed);
+                        if (!ok) {
+                            errors[e]++;
+                        }
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        }
+    }
+
+    private static final class LongSamples {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(LongSamples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "100"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        String label = options.getOrDefault("label", "run");
+
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (String spec : options.getOrDefault("endpoints",
+                "GET /api/books,GET /api/books/count,GET /api/collections").split(",")) {
+            String[] parts = spec.trim().split(" ", 2);
+            endpoints.add(new Endpoint(parts[0], parts[1]));
+        }
+
+        Report report = new LoadDriver(baseUrl, endpoints).run(label, concurrency, warmup, duration);
+        System.out.print(report.toTable());
+
+        String out = options.get("out");
+        if (out != null) {
+            Files.writeString(Path.of(out), report.toJson());
+        }
+    }
+}
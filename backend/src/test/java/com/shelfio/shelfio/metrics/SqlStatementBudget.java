@@ -0,0 +1,47 @@
+package com.shelfio.shelfio.metrics;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test helper that fails when a block of code executes more SQL statements
+ * through Hibernate than the given budget.
+ *
+ * <pre>
+ * List&lt;BookResponseDto&gt; books = SqlStatementBudget.assertAtMost(3, () -&gt; bookService.getAllBooks());
+ * </pre>
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+        // utility class
+    }
+
+    public static <T> T assertAtMost(int maxStatements, Supplier<T> action) {
+        T result;
+        int statements;
+        try (SqlStatementRecorder.Scope scope = SqlStatementRecorder.open()) {
+            result = action.get();
+            statements = scope.getStatements();
+        }
+        assertThat(statements)
+                .as("SQL statements executed (budget %d)", maxStatements)
+                .isLessThanOrEqualTo(maxStatements);
+        return result;
+    }
+
+    public static void assertAtMost(int maxStatements, Runnable action) {
+        assertAtMost(maxStatements, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static int count(Runnable action) {
+        try (SqlStatementRecorder.Scope scope = SqlStatementRecorder.open()) {
+            action.run();
+            return scope.getStatements();
+        }
+    }
+}
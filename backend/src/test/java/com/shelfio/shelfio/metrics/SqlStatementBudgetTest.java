@@ -0,0 +1,205 @@
+package com.shelfio.shelfio.metrics;
+
+import com.shelfio.shelfio.dto.request.ProgressUpdateItem;
+import com.shelfio.shelfio.dto.response.BookResponseDto;
+import com.shelfio.shelfio.dto.response.BulkDeleteResultDto;
+import com.shelfio.shelfio.dto.response.CollectionBooksPageDto;
+import com.shelfio.shelfio.dto.response.CollectionMembershipResultDto;
+import com.shelfio.shelfio.dto.response.CollectionSummaryDto;
+import com.shelfio.shelfio.dto.response.ProgressUpdateResultDto;
+import com.shelfio.shelfio.dto.response.ProgressUpdateResultDto.Outcome;
+import com.shelfio.shelfio.exception.ResourceNotFoundException;
+import com.shelfio.shelfio.service.BookService;
+import com.shelfio.shelfio.service.CollectionService;
+import com.shelfio.shelfio.service.ReviewService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("h2")
+@SpringBootTest
+class SqlStatementBudgetTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private CollectionService collectionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void countQueriesStayWithinOneStatement() {
+        SqlStatementBudget.assertAtMost(1, () -> bookService.getBooksCount());
+        SqlStatementBudget.assertAtMost(1, () -> bookService.getTotalPagesRead());
+    }
+
+    @Test
+    void reviewsByBookNeedExistenceCheckAndOneQuery() {
+        BookResponseDto book = bookService.createBookManually(
+                "Budget", "Ada", "Lovelace", "History", "Reading", 100, null, null, null);
+        reviewService.addReview(book.getId(), 5, "Great");
+        reviewService.addReview(book.getId(), 4, "Good");
+
+        assertThat(SqlStatementBudget.assertAtMost(2, () -> reviewService.getReviewsByBookId(book.getId())))
+                .hasSize(2);
+    }
+
+    @Test
+    void failsWhenBudgetIsExceeded() {
+        Long collectionId = collectionService.createCollection("Budget Shelf").getId();
+
+        assertThatThrownBy(() -> SqlStatementBudget.assertAtMost(0,
+                () -> collectionService.getCollectionById(collectionId)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("budget 0");
+    }
+
+    @Test
+    void batchProgressUpdateUsesBulkLoadAndOneBatch() {
+        List<ProgressUpdateItem> updates = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Long bookId = bookService.createBookManually(
+                    "Progress " + i, "Ada", "Lovelace", "History", "Not started", 300, null, null, null).getId();
+            updates.add(new ProgressUpdateItem(bookId, 10 + i, i % 2 == 0 ? "Reading" : null));
+        }
+        updates.add(new ProgressUpdateItem(-1L, 5, null));
+        updates.add(new ProgressUpdateItem(updates.get(0).getBookId(), 301, null));
+
+        // Reading statuses, books, one UPDATE batch
+        List<ProgressUpdateResultDto> results =
+                SqlStatementBudget.assertAtMost(3, () -> bookService.updateProgress(updates));
+
+        assertThat(results).hasSize(22);
+        assertThat(results.subList(0, 20)).allMatch(result -> result.getOutcome() == Outcome.UPDATED);
+        assertThat(results.get(1).getStatus()).isEqualTo("Not started");
+        assertThat(results.get(20).getOutcome()).isEqualTo(Outcome.NOT_FOUND);
+        assertThat(results.get(21).getOutcome()).isEqualTo(Outcome.INVALID);
+        assertThat(bookService.getBooksByStatus("Reading"))
+                .anyMatch(book -> book.getId().equals(updates.get(0).getBookId()) && book.getPagesRead() == 10);
+    }
+
+    @Test
+    void collectionMembershipChangesDoNotLoadTheCollection() {
+        Long collectionId = collectionService.createCollection("Membership Shelf").getId();
+        List<Long> bookIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            bookIds.add(bookService.createBookManually(
+                    "Member " + i, "Ada", "Lovelace", "History", "Reading", 100, null, null, null).getId());
+        }
+        collectionService.addBookToCollection(collectionId, bookIds.get(0));
+
+        List<Long> requested = new ArrayList<>(bookIds);
+        requested.add(-1L);
+        // Collection exists, existing book ids, one INSERT ... SELECT
+        CollectionMembershipResultDto added = SqlStatementBudget.assertAtMost(3,
+                () -> collectionService.addBooksToCollection(collectionId, requested));
+
+        assertThat(added.getChanged()).isEqualTo(9);
+        assertThat(added.getUnchanged()).isEqualTo(1);
+        assertThat(added.getNotFoundBookIds()).containsExactly(-1L);
+
+        SqlStatementBudget.assertAtMost(3, () -> collectionService.addBookToCollection(collectionId, bookIds.get(1)));
+        CollectionMembershipResultDto removed = SqlStatementBudget.assertAtMost(2,
+                () -> collectionService.removeBooksFromCollection(collectionId, bookIds.subList(0, 4)));
+
+        assertThat(removed.getChanged()).isEqualTo(4);
+        assertThat(collectionService.getCollectionById(collectionId).getBooks()).hasSize(6);
+    }
+
+    @Test
+    void collectionSummariesAndPagesDoNotScaleWithLibrarySize() {
+        Long collectionId = collectionService.createCollection("Paged Shelf").getId();
+        Long emptyId = collectionService.createCollection("Empty Shelf").getId();
+        List<Long> bookIds = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            Long bookId = bookService.createBookManually(
+                    "Paged " + i, "Ada", "Lovelace", "History", "Reading", 100, null, null,
+                    i % 2 == 0 ? "https://covers.example/" + i + ".jpg" : null).getId();
+            reviewService.addReview(bookId, 4, "Fine");
+            bookIds.add(bookId);
+        }
+        collectionService.addBooksToCollection(collectionId, bookIds);
+
+        List<CollectionSummaryDto> summaries =
+                SqlStatementBudget.assertAtMost(1, () -> collectionService.getCollectionSummaries(3));
+        CollectionSummaryDto paged = summaries.stream()
+                .filter(summary -> summary.getId().equals(collectionId)).findFirst().orElseThrow();
+        assertThat(paged.getBookCount()).isEqualTo(25);
+        assertThat(paged.getCovers()).containsExactly(
+                "https://covers.example/24.jpg", "https://covers.example/22.jpg", "https://covers.example/20.jpg");
+        assertThat(summaries).anyMatch(summary -> summary.getId().equals(emptyId)
+                && summary.getBookCount() == 0 && summary.getCovers().isEmpty());
+
+        // Collection exists, one page of books, their reviews in one batch
+        CollectionBooksPageDto first = SqlStatementBudget.assertAtMost(3,
+                () -> collectionService.getCollectionBooks(collectionId, null, 10));
+        assertThat(first.getBooks()).hasSize(10);
+        assertThat(first.getBooks().get(0).getReviews()).hasSize(1);
+
+        CollectionBooksPageDto last = collectionService.getCollectionBooks(collectionId, bookIds.get(19), 10);
+        assertThat(first.getNextCursor()).isEqualTo(bookIds.get(9));
+        assertThat(last.getBooks()).extracting(BookResponseDto::getId).containsExactlyElementsOf(bookIds.subList(20, 25));
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void bulkDeletesAreSetBased() {
+        Long collectionId = collectionService.createCollection("Doomed Shelf").getId();
+        List<Long> bookIds = new ArrayList<>();
+        List<Long> reviewIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Long bookId = bookService.createBookManually(
+                    "Doomed " + i, "Ada", "Lovelace", "History", "Reading", 100, null, null, null).getId();
+            reviewIds.add(reviewService.addReview(bookId, 3, "Meh").getReviewId());
+            reviewService.addReview(bookId, 4, "Better");
+            bookIds.add(bookId);
+        }
+        collectionService.addBooksToCollection(collectionId, bookIds);
+
+        BulkDeleteResultDto reviews = SqlStatementBudget.assertAtMost(1,
+                () -> reviewService.deleteReviews(reviewIds.subList(0, 5)));
+        assertThat(reviews.getDeleted()).isEqualTo(5);
+
+        List<Long> requested = new ArrayList<>(bookIds);
+        requested.add(-1L);
+        // Collection links, then books; remaining reviews cascade in the database
+        BulkDeleteResultDto books = SqlStatementBudget.assertAtMost(2, () -> bookService.deleteBooks(requested));
+        assertThat(books.getRequested()).isEqualTo(11);
+        assertThat(books.getDeleted()).isEqualTo(10);
+        assertThatThrownBy(() -> reviewService.getReviewById(reviewIds.get(9)))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(collectionService.getCollectionById(collectionId).getBooks()).isEmpty();
+
+        Long filledId = collectionService.createCollection("Filled Shelf").getId();
+        List<Long> keptIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            keptIds.add(bookService.createBookManually(
+                    "Kept " + i, "Ada", "Lovelace", "History", "Reading", 100, null, null, null).getId());
+        }
+        collectionService.addBooksToCollection(filledId, keptIds);
+
+        // Collection links, then collections
+        BulkDeleteResultDto collections = SqlStatementBudget.assertAtMost(2,
+                () -> collectionService.deleteCollections(List.of(collectionId, filledId)));
+        assertThat(collections.getDeleted()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM collection_books WHERE collection_id IN (?, ?)",
+                Long.class, collectionId, filledId)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM books WHERE book_id IN (?, ?, ?, ?, ?)", Long.class, keptIds.toArray()))
+                .isEqualTo(5);
+    }
+}
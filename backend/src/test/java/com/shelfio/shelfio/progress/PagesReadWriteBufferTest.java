@@ -0,0 +1,171 @@
+package com.shelfio.shelfio.progress;
+
+import com.shelfio.shelfio.dto.request.ProgressUpdateItem;
+import com.shelfio.shelfio.service.BookService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("h2")
+@SpringBootTest(properties = {
+        "shelfio.progress.write-behind.enabled=true",
+        "shelfio.progress.write-behind.flush-interval=1h"
+})
+class PagesReadWriteBufferTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private PagesReadWriteBuffer pagesReadWriteBuffer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void coalescesUpdatesAndServesPendingValue() {
+        Long bookId = bookService.createBookManually(
+                "Buffered", "Ada", "Lovelace", "History", "Reading", 300, null, null, null).getId();
+
+        bookService.updatePagesRead(bookId, 10);
+        bookService.updatePagesRead(bookId, 20);
+        assertThat(bookService.updatePagesRead(bookId, 30).getPagesRead()).isEqualTo(30);
+
+        assertThat(storedPagesRead(bookId)).isZero();
+        assertThat(bookService.getAllBooks())
+                .anyMatch(book -> book.getId().equals(bookId) && book.getPagesRead() == 30);
+
+        assertThat(pagesReadWriteBuffer.flush()).isPositive();
+        assertThat(storedPagesRead(bookId)).isEqualTo(30);
+        assertThat(pagesReadWriteBuffer.pendingPagesRead(bookId)).isNull();
+    }
+
+    @Test
+    void totalPagesReadIncludesPendingUpdates() {
+        Long bookId = bookService.createBookManually(
+                "Totals", "Ada", "Lovelace", "History", "Reading", 300, null, null, null).getId();
+        int before = bookService.getTotalPagesRead();
+
+        bookService.updatePagesRead(bookId, 42);
+
+        assertThat(bookService.getTotalPagesRead()).isEqualTo(before + 42);
+    }
+
+    @Test
+    void deletedBooksAreNotFlushed() {
+        Long bookId = bookService.createBookManually(
+                "Deleted", "Ada", "Lovelace", "History", "Reading", 300, null, null, null).getId();
+
+        bookService.updatePagesRead(bookId, 5);
+        bookService.deleteBook(bookId);
+
+        assertThat(pagesReadWriteBuffer.pendingPagesRead(bookId)).isNull();
+    }
+
+    @Test
+    void rolledBackBulkDeletesKeepTheBufferedValues() {
+        Long bookId = bookService.createBookManually(
+                "Survivor", "Ada", "Lovelace", "History", "Reading", 300, null, null, null).getId();
+        bookService.updatePagesRead(bookId, 15);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            bookService.deleteBooks(List.of(bookId));
+            status.setRollbackOnly();
+        });
+
+        assertThat(pagesReadWriteBuffer.pendingPagesRead(bookId)).isEqualTo(15);
+        pagesReadWriteBuffer.flush();
+        assertThat(storedPagesRead(bookId)).isEqualTo(15);
+    }
+
+    @Test
+    void statusChangeKeepsPagesReadFlushedWhileItRan() throws Exception {
+        Long bookId = bookService.createBookManually(
+                "Interleaved", "Ada", "Lovelace", "History", "Reading", 300, null, null, null).getId();
+        bookService.updatePagesRead(bookId, 75);
+
+        // The status change loads the book, the flush writes it before the change commits
+        CountDownLatch loaded = new CountDownLatch(1);
+        CompletableFuture<Integer> flushed = CompletableFuture.supplyAsync(() -> {
+            await(loaded);
+            return pagesReadWriteBuffer.flush();
+        });
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            bookService.updateReadingStatus(bookId, "Finished");
+            loaded.countDown();
+            awaitFlushBlockedOrDone(flushed);
+        });
+
+        assertThat(flushed.get(10, TimeUnit.SECONDS)).isPositive();
+        assertThat(storedPagesRead(bookId)).isEqualTo(75);
+        assertThat(pagesReadWriteBuffer.pendingPagesRead(bookId)).isNull();
+    }
+
+    @Test
+    void rolledBackUpdatesAreNotBuffered() {
+        Long bookId = bookService.createBookManually(
+                "Rolled back", "Ada", "Lovelace", "History", "Reading", 300, null, null, null).getId();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            bookService.updatePagesRead(bookId, 50);
+            status.setRollbackOnly();
+        });
+
+        assertThat(pagesReadWriteBuffer.pendingPagesRead(bookId)).isNull();
+        pagesReadWriteBuffer.flush();
+        assertThat(storedPagesRead(bookId)).isZero();
+    }
+
+    @Test
+    void rolledBackDirectWritesKeepTheBufferedValue() {
+        Long bookId = bookService.createBookManually(
+                "Kept pending", "Ada", "Lovelace", "History", "Reading", 300, null, null, null).getId();
+        bookService.updatePagesRead(bookId, 40);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            bookService.updateProgress(List.of(new ProgressUpdateItem(bookId, 60, null)));
+            status.setRollbackOnly();
+        });
+
+        assertThat(pagesReadWriteBuffer.pendingPagesRead(bookId)).isEqualTo(40);
+        pagesReadWriteBuffer.flush();
+        assertThat(storedPagesRead(bookId)).isEqualTo(40);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    // The flush's UPDATE waits for the row lock of the status change, unless the book was loaded without one
+    private void awaitFlushBlockedOrDone(CompletableFuture<Integer> flushed) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!flushed.isDone() && jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.sessions WHERE blocker_id IS NOT NULL", Integer.class) == 0) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private int storedPagesRead(Long bookId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT pages_read FROM books WHERE book_id = ?", Integer.class, bookId);
+    }
+}
@@ -0,0 +1,106 @@
+package com.shelfio.shelfio.progress;
+
+import com.shelfio.shelfio.dto.request.ProgressUpdateItem;
+import com.shelfio.shelfio.dto.response.ProgressBucketDto;
+import com.shelfio.shelfio.entity.ProgressRollup.Granularity;
+import com.shelfio.shelfio.exception.InvalidInputException;
+import com.shelfio.shelfio.service.BookService;
+import com.shelfio.shelfio.service.StatsService;
+import com.shelfio.shelfio.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("h2")
+@SpringBootTest
+class ReadingProgressRollupTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rollsUpProgressPerDayWeekAndMonth() {
+        LocalDate today = LocalDate.now();
+        inLibrary("stats-a", () -> {
+            Long first = createBook("Middlemarch");
+            Long second = createBook("Bleak House");
+            bookService.updateReadingStatus(first, "Reading");
+            bookService.updatePagesRead(first, 120);
+            bookService.updatePagesRead(first, 100);
+            bookService.updateProgress(List.of(
+                    progress(first, 500, "Finished"),
+                    progress(second, 40, "Reading")));
+            // No change, no event
+            bookService.updatePagesRead(second, 40);
+            return null;
+        });
+
+        for (Granularity granularity : Granularity.values()) {
+            List<ProgressBucketDto> buckets = inLibrary("stats-a",
+                    () -> statsService.getProgress(granularity, today, today));
+            assertThat(buckets).singleElement().satisfies(bucket -> {
+                assertThat(bucket.getBucketStart()).isEqualTo(granularity.bucketStart(today));
+                assertThat(bucket.getPagesRead()).isEqualTo(540);
+                assertThat(bucket.getBooksStarted()).isEqualTo(2);
+                assertThat(bucket.getBooksFinished()).isEqualTo(1);
+                assertThat(bucket.getProgressUpdates()).isEqualTo(5);
+            });
+        }
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM progress_events WHERE library_id = 'stats-a'", Long.class)).isEqualTo(5);
+
+        // Other libraries only see their own progress
+        assertThat(inLibrary("stats-b", () -> statsService.getProgress(Granularity.DAY, today, today)))
+                .singleElement()
+                .extracting(ProgressBucketDto::getProgressUpdates)
+                .isEqualTo(0);
+    }
+
+    @Test
+    void fillsEmptyBucketsAndBoundsTheRange() {
+        LocalDate today = LocalDate.now();
+        List<ProgressBucketDto> days = inLibrary("stats-c",
+                () -> statsService.getProgress(Granularity.DAY, today.minusDays(6), today));
+        assertThat(days).hasSize(7);
+        assertThat(days).allSatisfy(bucket -> assertThat(bucket.getPagesRead()).isZero());
+        assertThat(days.get(0).getBucketStart()).isEqualTo(today.minusDays(6));
+
+        assertThat(statsService.getProgress(Granularity.MONTH, null, null)).hasSize(30);
+        assertThatThrownBy(() -> statsService.getProgress(Granularity.DAY, today, today.minusDays(1)))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> statsService.getProgress(Granularity.DAY, today.minusYears(2), today))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    private Long createBook(String title) {
+        return bookService.createBookManually(
+                title, "George", "Eliot", "Classics", "Not started", 800, null, "Test Press", null).getId();
+    }
+
+    private static ProgressUpdateItem progress(Long bookId, Integer pagesRead, String status) {
+        ProgressUpdateItem item = new ProgressUpdateItem();
+        item.setBookId(bookId);
+        item.setPagesRead(pagesRead);
+        item.setStatus(status);
+        return item;
+    }
+
+    private static <T> T inLibrary(String libraryId, Supplier<T> work) {
+        return TenantContext.callInLibrary(libraryId, work);
+    }
+}
@@ -0,0 +1,103 @@
+package com.shelfio.shelfio.recommendation;
+
+import com.shelfio.shelfio.dto.response.SimilarBookDto;
+import com.shelfio.shelfio.exception.InvalidInputException;
+import com.shelfio.shelfio.exception.ResourceNotFoundException;
+import com.shelfio.shelfio.service.BookService;
+import com.shelfio.shelfio.service.CollectionService;
+import com.shelfio.shelfio.service.RecommendationService;
+import com.shelfio.shelfio.service.ReviewService;
+import com.shelfio.shelfio.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("h2")
+@SpringBootTest(properties = "shelfio.similar-books.refresh-interval=1h")
+class SimilarBooksTest {
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private SimilarBooksIndex similarBooksIndex;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private CollectionService collectionService;
+
+    @Test
+    void ranksSharedAuthorAboveSharedCategory() {
+        Long dune = createBook("Dune", "Frank", "Herbert", "Space Opera");
+        Long messiah = createBook("Dune Messiah", "Frank", "Herbert", "Desert Politics");
+        Long foundation = createBook("Foundation", "Isaac", "Asimov", "Space Opera");
+        Long unrelated = createBook("Cookbook", "Julia", "Child", "Cooking");
+        similarBooksIndex.refresh();
+
+        assertThat(recommendationService.getSimilarBooks(dune, null))
+                .extracting(SimilarBookDto::getId)
+                .containsExactly(messiah, foundation)
+                .doesNotContain(unrelated);
+    }
+
+    @Test
+    void appliesCollectionAndReviewChangesIncrementally() {
+        Long solaris = createBook("Solaris", "Stanislaw", "Lem", "Polish Fiction");
+        Long cyberiad = createBook("The Cyberiad", "Stanislaw", "Lem", "Polish Satire");
+        Long quoVadis = createBook("Quo Vadis", "Henryk", "Sienkiewicz", "Polish Fiction");
+        similarBooksIndex.refresh();
+        assertThat(recommendationService.getSimilarBooks(solaris, 1))
+                .extracting(SimilarBookDto::getId).containsExactly(cyberiad);
+
+        // Sharing two collections and a rating outweighs the shared author
+        Long shelf = collectionService.createCollection("Polish Classics").getId();
+        Long favourites = collectionService.createCollection("Polish Favourites").getId();
+        collectionService.addBooksToCollection(shelf, List.of(solaris, quoVadis));
+        collectionService.addBooksToCollection(favourites, List.of(solaris, quoVadis));
+        reviewService.addReview(solaris, 5, "Ocean");
+        reviewService.addReview(quoVadis, 5, "Rome");
+        similarBooksIndex.refresh();
+        assertThat(recommendationService.getSimilarBooks(solaris, 1))
+                .extracting(SimilarBookDto::getId).containsExactly(quoVadis);
+
+        bookService.deleteBook(quoVadis);
+        collectionService.deleteCollection(shelf);
+        similarBooksIndex.refresh();
+        assertThat(recommendationService.getSimilarBooks(solaris, null))
+                .extracting(SimilarBookDto::getId).containsExactly(cyberiad);
+    }
+
+    @Test
+    void staysWithinTheLibrary() {
+        Long mine = TenantContext.callInLibrary("similar-a",
+                () -> createBook("Neuromancer", "William", "Gibson", "Cyberpunk"));
+        TenantContext.callInLibrary("similar-b",
+                () -> createBook("Count Zero", "William", "Gibson", "Cyberpunk"));
+        similarBooksIndex.refresh();
+
+        assertThat(TenantContext.callInLibrary("similar-a", () -> recommendationService.getSimilarBooks(mine, null)))
+                .isEmpty();
+        assertThatThrownBy(() -> TenantContext.callInLibrary("similar-b",
+                () -> recommendationService.getSimilarBooks(mine, null)))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> TenantContext.callInLibrary("similar-a",
+                () -> recommendationService.getSimilarBooks(mine, 0)))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    private Long createBook(String title, String firstName, String lastName, String category) {
+        return bookService.createBookManually(
+                title, firstName, lastName, category, "Not started", 300, null, "Test Press", null).getId();
+    }
+}
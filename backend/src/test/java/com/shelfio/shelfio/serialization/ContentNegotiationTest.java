@@ -0,0 +1,84 @@
+package com.shelfio.shelfio.serialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.shelfio.shelfio.service.BookService;
+import com.shelfio.shelfio.tenant.TenantContext;
+import com.shelfio.shelfio.tenant.TenantFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("h2")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ContentNegotiationTest {
+
+    private static final String LIBRARY = "formats";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private BookService bookService;
+
+    @BeforeEach
+    void seed() {
+        TenantContext.callInLibrary(LIBRARY, () -> bookService.createBookManually(
+                "Walden", "Henry", "Thoreau", "Nature", "Reading", 352, null, "Ticknor", null));
+    }
+
+    @Test
+    void servesCompactJsonByDefault() {
+        ResponseEntity<byte[]> response = get(MediaType.ALL);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).doesNotContain("\n");
+    }
+
+    @Test
+    void servesCborAndSmileOnRequest() throws IOException {
+        MediaType cbor = MediaType.parseMediaType("application/cbor");
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+        ResponseEntity<byte[]> cborResponse = get(cbor);
+        assertThat(cborResponse.getHeaders().getContentType()).isEqualTo(cbor);
+        assertWalden(new ObjectMapper(new CBORFactory()).readTree(cborResponse.getBody()));
+
+        ResponseEntity<byte[]> smileResponse = get(smile);
+        assertThat(smileResponse.getHeaders().getContentType()).isEqualTo(smile);
+        assertWalden(new ObjectMapper(new SmileFactory()).readTree(smileResponse.getBody()));
+
+        assertThat(cborResponse.getBody().length).isLessThan(get(MediaType.APPLICATION_JSON).getBody().length);
+    }
+
+    private static void assertWalden(JsonNode response) {
+        assertThat(response.path("success").asBoolean()).isTrue();
+        assertThat(response.path("data").get(0).path("title").asText()).isEqualTo("Walden");
+        // Same settings as the JSON mapper: ISO dates, no null fields
+        assertThat(response.path("timestamp").isTextual()).isTrue();
+        assertThat(response.has("message")).isFalse();
+    }
+
+    private ResponseEntity<byte[]> get(MediaType accept) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(accept));
+        headers.set(TenantFilter.LIBRARY_ID_HEADER, LIBRARY);
+        return restTemplate.exchange("/api/books", HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+    }
+}
@@ -0,0 +1,169 @@
+package com.shelfio.shelfio.sync;
+
+import com.shelfio.shelfio.dto.response.BookResponseDto;
+import com.shelfio.shelfio.dto.response.SyncResponseDto;
+import com.shelfio.shelfio.service.BookService;
+import com.shelfio.shelfio.service.CollectionService;
+import com.shelfio.shelfio.service.ReviewService;
+import com.shelfio.shelfio.service.SyncService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("h2")
+@SpringBootTest
+class SyncServiceTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private CollectionService collectionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private long cursor;
+
+    @BeforeEach
+    void catchUp() {
+        SyncResponseDto page;
+        do {
+            page = syncService.getChangesSince(cursor, 1000);
+            cursor = page.getCursor();
+        } while (page.isHasMore());
+    }
+
+    @Test
+    void returnsLatestStateOfChangedEntitiesOnce() {
+        BookResponseDto book = createBook("Synced");
+        bookService.updatePagesRead(book.getId(), 10);
+        bookService.updatePagesRead(book.getId(), 20);
+        Long reviewId = reviewService.addReview(book.getId(), 5, "Great").getReviewId();
+        Long collectionId = collectionService.createCollection("Synced Shelf").getId();
+        collectionService.addBookToCollection(collectionId, book.getId());
+
+        SyncResponseDto changes = syncService.getChangesSince(cursor, 100);
+
+        assertThat(changes.isHasMore()).isFalse();
+        assertThat(changes.getCursor()).isGreaterThan(cursor);
+        assertThat(changes.getBooks()).singleElement()
+                .satisfies(synced -> assertThat(synced.getPagesRead()).isEqualTo(20));
+        assertThat(changes.getReviews()).singleElement().satisfies(synced -> {
+            assertThat(synced.getReviewId()).isEqualTo(reviewId);
+            assertThat(synced.getBookId()).isEqualTo(book.getId());
+        });
+        assertThat(changes.getCollections()).singleElement()
+                .satisfies(synced -> assertThat(synced.getBookIds()).containsExactly(book.getId()));
+        assertThat(changes.getDeleted().getBooks()).isEmpty();
+
+        assertThat(syncService.getChangesSince(changes.getCursor(), 100).getBooks()).isEmpty();
+    }
+
+    @Test
+    void deletionsBecomeTombstones() {
+        BookResponseDto kept = createBook("Kept");
+        BookResponseDto removed = createBook("Removed");
+        Long reviewId = reviewService.addReview(removed.getId(), 2, "Meh").getReviewId();
+        bookService.deleteBooks(List.of(removed.getId()));
+
+        SyncResponseDto changes = syncService.getChangesSince(cursor, 100);
+
+        assertThat(changes.getBooks()).extracting(BookResponseDto::getId).containsExactly(kept.getId());
+        assertThat(changes.getDeleted().getBooks()).containsExactly(removed.getId());
+        // The review went with its book, so its upsert turns into a tombstone
+        assertThat(changes.getReviews()).isEmpty();
+        assertThat(changes.getDeleted().getReviews()).containsExactly(reviewId);
+    }
+
+    @Test
+    void deletedBooksTakeTheirReviewsAndMembershipsAlong() {
+        BookResponseDto book = createBook("Cascaded");
+        Long reviewId = reviewService.addReview(book.getId(), 4, "Good").getReviewId();
+        Long collectionId = collectionService.createCollection("Cascaded Shelf").getId();
+        collectionService.addBookToCollection(collectionId, book.getId());
+        long synced = syncService.getChangesSince(cursor, 100).getCursor();
+
+        bookService.deleteBooks(List.of(book.getId()));
+        SyncResponseDto changes = syncService.getChangesSince(synced, 100);
+
+        assertThat(changes.getDeleted().getBooks()).containsExactly(book.getId());
+        assertThat(changes.getDeleted().getReviews()).containsExactly(reviewId);
+        assertThat(changes.getCollections()).singleElement().satisfies(collection -> {
+            assertThat(collection.getId()).isEqualTo(collectionId);
+            assertThat(collection.getBookIds()).isEmpty();
+        });
+    }
+
+    @Test
+    void changesCommittedAfterLaterOnesAreNotSkipped() throws Exception {
+        // Author, category and status exist, so both writers only insert their book
+        createBook("Committed before");
+        long synced = syncService.getChangesSince(cursor, 100).getCursor();
+
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Long> slow = CompletableFuture.supplyAsync(() ->
+                new TransactionTemplate(transactionManager).execute(status -> {
+                    Long id = createBook("Committed last").getId();
+                    written.countDown();
+                    await(commit);
+                    return id;
+                }));
+        await(written);
+        Long fast = createBook("Committed first").getId();
+
+        SyncResponseDto first = syncService.getChangesSince(synced, 100);
+        commit.countDown();
+        Long slowId = slow.get(10, TimeUnit.SECONDS);
+        SyncResponseDto second = syncService.getChangesSince(first.getCursor(), 100);
+
+        assertThat(first.getBooks()).extracting(BookResponseDto::getId).containsExactly(fast);
+        assertThat(second.getBooks()).extracting(BookResponseDto::getId).containsExactly(slowId);
+    }
+
+    @Test
+    void pagesThroughChanges() {
+        for (int i = 0; i < 5; i++) {
+            createBook("Paged sync " + i);
+        }
+
+        SyncResponseDto first = syncService.getChangesSince(cursor, 3);
+        SyncResponseDto second = syncService.getChangesSince(first.getCursor(), 3);
+
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getBooks()).hasSize(3);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getBooks()).hasSize(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private BookResponseDto createBook(String title) {
+        return bookService.createBookManually(
+                title, "Ada", "Lovelace", "History", "Reading", 300, null, null, null);
+    }
+}
@@ -0,0 +1,117 @@
+package com.shelfio.shelfio.tenant;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shelfio.shelfio.dto.response.BookResponseDto;
+import com.shelfio.shelfio.dto.response.CollectionSummaryDto;
+import com.shelfio.shelfio.exception.ResourceNotFoundException;
+import com.shelfio.shelfio.service.BookService;
+import com.shelfio.shelfio.service.CollectionService;
+import com.shelfio.shelfio.service.ReviewService;
+import com.shelfio.shelfio.service.SyncService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("h2")
+@SpringBootTest
+class LibraryTenancyTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private CollectionService collectionService;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void librariesOnlySeeTheirOwnBooks() {
+        BookResponseDto alice = inLibrary("alice", () -> createBook("Alice's Book", "9780000000011"));
+        // The same ISBN may exist once per library
+        BookResponseDto bob = inLibrary("bob", () -> createBook("Bob's Book", "9780000000011"));
+
+        assertThat(inLibrary("alice", bookService::getAllBooks))
+                .extracting(BookResponseDto::getId)
+                .contains(alice.getId())
+                .doesNotContain(bob.getId());
+        assertThat(inLibrary("bob", bookService::getBooksCount)).isEqualTo(1);
+
+        assertThatThrownBy(() -> inLibrary("bob", () -> bookService.updatePagesRead(alice.getId(), 5)))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> inLibrary("bob", () -> reviewService.addReview(alice.getId(), 5, "Not mine")))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void bulkOperationsStayInTheirLibrary() {
+        Long carolBook = inLibrary("carol", () -> createBook("Carol's Book", null).getId());
+        Long carolShelf = inLibrary("carol", () -> {
+            Long shelfId = collectionService.createCollection("Carol's Shelf").getId();
+            collectionService.addBooksToCollection(shelfId, List.of(carolBook));
+            return shelfId;
+        });
+
+        // Another library can neither delete the book nor add it to its own collections
+        assertThat(inLibrary("dave", () -> bookService.deleteBooks(List.of(carolBook))).getDeleted()).isZero();
+        Long daveShelf = inLibrary("dave", () -> collectionService.createCollection("Dave's Shelf").getId());
+        assertThat(inLibrary("dave", () -> collectionService.addBooksToCollection(daveShelf, List.of(carolBook)))
+                .getChanged()).isZero();
+
+        List<CollectionSummaryDto> carolSummaries = inLibrary("carol", () -> collectionService.getCollectionSummaries(3));
+        assertThat(carolSummaries).extracting(CollectionSummaryDto::getId).containsExactly(carolShelf);
+        assertThat(carolSummaries.get(0).getBookCount()).isEqualTo(1);
+        assertThat(inLibrary("dave", () -> collectionService.getCollectionSummaries(3)))
+                .extracting(CollectionSummaryDto::getId)
+                .containsExactly(daveShelf);
+    }
+
+    @Test
+    void changeFeedIsPerLibrary() {
+        Long erinBook = inLibrary("erin", () -> createBook("Erin's Book", null).getId());
+
+        assertThat(inLibrary("erin", () -> syncService.getChangesSince(0L, 100).getBooks()))
+                .extracting(BookResponseDto::getId)
+                .containsExactly(erinBook);
+        assertThat(inLibrary("frank", () -> syncService.getChangesSince(0L, 100).getBooks())).isEmpty();
+    }
+
+    @Test
+    void rejectsMalformedLibraryHeader() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/books");
+        request.addHeader(TenantFilter.LIBRARY_ID_HEADER, "../other");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        new TenantFilter(objectMapper).doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("INVALID_LIBRARY_ID");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    private BookResponseDto createBook(String title, String isbn) {
+        return bookService.createBookManually(
+                title, "Ursula", "Le Guin", "Fantasy", "Reading", 250, isbn, null, null);
+    }
+
+    private static <T> T inLibrary(String libraryId, Supplier<T> work) {
+        return TenantContext.callInLibrary(libraryId, work);
+    }
+}
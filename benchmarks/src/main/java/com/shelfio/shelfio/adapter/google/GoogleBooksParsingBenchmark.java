@@ -0,0 +1,52 @@
+package com.shelfio.shelfio.adapter.google;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shelfio.shelfio.benchmark.BenchmarkData;
+import com.shelfio.shelfio.dto.ExternalBookDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Google Books response handling from recorded payloads: JSON decoding as done by
+ * the adapter plus {@link GoogleBooksAdapter#toExternalBook}.
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings("unchecked")
+public class GoogleBooksParsingBenchmark {
+
+    @Param({"volume-full", "volume-minimal", "no-items"})
+    public String payload;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GoogleBooksAdapter adapter = new GoogleBooksAdapter(
+            HttpClient.newHttpClient(), objectMapper, "http://localhost", Duration.ofSeconds(1));
+
+    private byte[] body;
+    private Map<String, Object> decoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        body = BenchmarkData.resource("/payloads/google-books-" + payload + ".json");
+        decoded = objectMapper.readValue(body, Map.class);
+    }
+
+    @Benchmark
+    public Optional<ExternalBookDto> decodeAndParse() throws IOException {
+        Map<String, Object> response = objectMapper.readValue(body, Map.class);
+        return adapter.toExternalBook("9780132350884", response);
+    }
+
+    @Benchmark
+    public Optional<ExternalBookDto> parseDecoded() {
+        return adapter.toExternalBook("9780132350884", decoded);
+    }
+}
@@ -0,0 +1,105 @@
+package com.shelfio.shelfio.benchmark;
+
+import com.shelfio.shelfio.dto.response.BookResponseDto;
+import com.shelfio.shelfio.entity.Author;
+import com.shelfio.shelfio.entity.Book;
+import com.shelfio.shelfio.entity.Category;
+import com.shelfio.shelfio.entity.Collection;
+import com.shelfio.shelfio.entity.ReadingStatus;
+import com.shelfio.shelfio.entity.Review;
+import com.shelfio.shelfio.mapper.BookMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds detached entity graphs shaped like a real library for the benchmarks.
+ */
+public final class BenchmarkData {
+
+    private static final String[] STATUSES = {"Not started", "Reading", "Finished"};
+    private static final String[] CATEGORIES = {"Fantasy", "Science-Fiction", "History", "Biography"};
+
+    private BenchmarkData() {
+        // utility class
+    }
+
+    public static Book book(long id, int reviewCount) {
+        List<Review> reviews = new ArrayList<>(reviewCount);
+        Book book = Book.builder()
+                .bookId(id)
+                .title("The Book Number " + id)
+                .isbn(String.format("978%010d", id))
+                .pages(320)
+                .pagesRead((int) (id % 320))
+                .publisher("Shelfio Press")
+                .bookcover("http://books.google.com/books/content?id=" + id + "&printsec=frontcover&img=1&zoom=1")
+                .author(Author.builder()
+                        .authorId(id % 50)
+                        .firstName("Firstname" + id % 50)
+                        .lastName("Lastname" + id % 50)
+                        .build())
+                .category(Category.builder()
+                        .categoryId(id % CATEGORIES.length)
+                        .name(CATEGORIES[(int) (id % CATEGORIES.length)])
+                        .build())
+                .readingStatus(ReadingStatus.builder()
+                        .readingStatusId(id % STATUSES.length)
+                        .status(STATUSES[(int) (id % STATUSES.length)])
+                        .build())
+                .reviews(reviews)
+                .build();
+
+        LocalDateTime createdAt = LocalDateTime.of(2025, 11, 1, 12, 0);
+        for (int i = 0; i < reviewCount; i++) {
+            reviews.add(Review.builder()
+                    .reviewId(id * 1000 + i)
+                    .book(book)
+                    .rating(1 + i % 5)
+                    .comment("A thoughtful review comment with a realistic length for entry " + i)
+                    .createdAt(createdAt.plusDays(i))
+                    .build());
+        }
+        return book;
+    }
+
+    public static List<Book> books(int count, int reviewsPerBook) {
+        List<Book> books = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            books.add(book(i, reviewsPerBook));
+        }
+        return books;
+    }
+
+    public static Collection collection(int bookCount, int reviewsPerBook) {
+        Set<Book> books = new HashSet<>(books(bookCount, reviewsPerBook));
+        return Collection.builder()
+                .collectionId(1L)
+                .name("Favorites")
+                .books(books)
+                .build();
+    }
+
+    public static List<BookResponseDto> bookDtos(int count, int reviewsPerBook) {
+        return books(count, reviewsPerBook).stream()
+                .map(BookMapper::toDto)
+                .toList();
+    }
+
+    public static byte[] resource(String path) {
+        try (InputStream in = BenchmarkData.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Missing benchmark resource: " + path);
+            }
+            return in.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
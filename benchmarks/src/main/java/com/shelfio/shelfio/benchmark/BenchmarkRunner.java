@@ -0,0 +1,54 @@
+package com.shelfio.shelfio.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the benchmarks with allocation profiling and JSON results by default.
+ *
+ * <p>Any JMH command line option can be passed to override the defaults, e.g.
+ * {@code java -jar target/benchmarks.jar MapperBenchmark -f 1 -rff target/mapper.json}.
+ */
+public final class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-results.json";
+
+    private BenchmarkRunner() {
+        // utility class
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cli = new CommandLineOptions(args);
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(cli)
+                .addProfiler(GCProfiler.class)
+                .timeUnit(cli.getTimeUnit().orElse(TimeUnit.NANOSECONDS))
+                .forks(cli.getForkCount().orElse(2))
+                .warmupIterations(cli.getWarmupIterations().orElse(5))
+                .warmupTime(cli.getWarmupTime().orElse(TimeValue.seconds(1)))
+                .measurementIterations(cli.getMeasurementIterations().orElse(5))
+                .measurementTime(cli.getMeasurementTime().orElse(TimeValue.seconds(1)))
+                .resultFormat(cli.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(cli.getResult().orElse(DEFAULT_RESULT_FILE));
+
+        if (cli.getBenchModes().isEmpty()) {
+            options.mode(Mode.AverageTime);
+        }
+        if (cli.getIncludes().isEmpty()) {
+            options.include("com\\.shelfio\\.shelfio\\..*Benchmark");
+        }
+
+        new Runner(options.build()).run();
+    }
+}
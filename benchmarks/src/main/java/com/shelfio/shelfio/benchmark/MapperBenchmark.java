@@ -0,0 +1,60 @@
+package com.shelfio.shelfio.benchmark;
+
+import com.shelfio.shelfio.dto.response.BookResponseDto;
+import com.shelfio.shelfio.dto.response.CollectionResponseDto;
+import com.shelfio.shelfio.entity.Book;
+import com.shelfio.shelfio.entity.Collection;
+import com.shelfio.shelfio.mapper.BookMapper;
+import com.shelfio.shelfio.mapper.CollectionMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Entity-to-DTO mapping cost as a function of review count and collection size.
+ */
+public class MapperBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class BookState {
+
+        @Param({"0", "5", "50"})
+        public int reviewsPerBook;
+
+        private Book book;
+
+        @Setup
+        public void setUp() {
+            book = BenchmarkData.book(42, reviewsPerBook);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CollectionState {
+
+        @Param({"0", "5", "50"})
+        public int reviewsPerBook;
+
+        @Param({"10", "200"})
+        public int booksPerCollection;
+
+        private Collection collection;
+
+        @Setup
+        public void setUp() {
+            collection = BenchmarkData.collection(booksPerCollection, reviewsPerBook);
+        }
+    }
+
+    @Benchmark
+    public BookResponseDto bookToDto(BookState state) {
+        return BookMapper.toDto(state.book);
+    }
+
+    @Benchmark
+    public CollectionResponseDto collectionToDto(CollectionState state) {
+        return CollectionMapper.toDto(state.collection);
+    }
+}
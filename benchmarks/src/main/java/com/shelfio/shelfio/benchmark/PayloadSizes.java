@@ -0,0 +1,48 @@
+package com.shelfio.shelfio.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shelfio.shelfio.dto.response.ApiResponse;
+import com.shelfio.shelfio.dto.response.BookResponseDto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoded size of the book list response per format, raw and gzip-compressed,
+ * to read alongside the {@link SerializationBenchmark} timings:
+ * <pre>
+ * java -cp target/benchmarks.jar com.shelfio.shelfio.benchmark.PayloadSizes
+ * </pre>
+ */
+public final class PayloadSizes {
+
+    private static final int[] BOOK_COUNTS = {10, 100, 1000};
+
+    private PayloadSizes() {
+        // utility class
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.out.printf("%-14s %6s %12s %12s %8s%n", "format", "books", "bytes", "gzip bytes", "vs json");
+        for (int books : BOOK_COUNTS) {
+            ApiResponse<List<BookResponseDto>> response = ApiResponse.success(BenchmarkData.bookDtos(books, 3));
+            int json = SerializationBenchmark.mapper("json").writeValueAsBytes(response).length;
+            for (String format : SerializationBenchmark.FORMATS) {
+                ObjectMapper mapper = SerializationBenchmark.mapper(format);
+                byte[] encoded = mapper.writeValueAsBytes(response);
+                System.out.printf("%-14s %6d %12d %12d %7.0f%%%n",
+                        format, books, encoded.length, gzip(encoded).length, 100.0 * encoded.length / json);
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,79 @@
+package com.shelfio.shelfio.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.shelfio.shelfio.dto.response.ApiResponse;
+import com.shelfio.shelfio.dto.response.BookResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Jackson encoding and decoding of the book list response in each negotiable
+ * format, configured like application.properties. {@link PayloadSizes} reports
+ * the encoded sizes.
+ */
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    static final String[] FORMATS = {"json-indented", "json", "cbor", "smile"};
+
+    private static final TypeReference<ApiResponse<List<BookResponseDto>>> BOOK_LIST = new TypeReference<>() {
+    };
+
+    @Param({"10", "100", "1000"})
+    public int books;
+
+    @Param({"json-indented", "json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<BookResponseDto>> response;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = mapper(format);
+        response = ApiResponse.success(BenchmarkData.bookDtos(books, 3));
+        encoded = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeBookList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    // The client's side of the exchange
+    @Benchmark
+    public ApiResponse<List<BookResponseDto>> deserializeBookList() throws IOException {
+        return objectMapper.readValue(encoded, BOOK_LIST);
+    }
+
+    static ObjectMapper mapper(String format) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(
+                        SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .indentOutput("json-indented".equals(format));
+        switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory());
+            case "smile" -> builder.factory(new SmileFactory());
+            default -> {
+            }
+        }
+        return builder.build();
+    }
+}